@@ -0,0 +1,66 @@
+package ca.bc.gov.educ.api.pen.services.benchmark;
+
+import ca.bc.gov.educ.api.pen.services.benchmark.ValidationBenchmarkFixtures.Corpus;
+import ca.bc.gov.educ.api.pen.services.rules.Rule;
+import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
+import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of each rule on its own, over each payload corpus.
+ * the rules reading the issues of other rules see an empty issue list, as when every rule they depend on passed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RuleBenchmark {
+
+  /**
+   * The simple class name of the rule.
+   */
+  @Param({"SubmittedPENRule", "LegalLastNameRule", "LegalFirstNameRule", "LegalMiddleNameRule", "UsualFirstNameRule", "UsualLastNameRule",
+      "UsualMiddleNameRule", "GenderRule", "PostalCodeRule", "BirthDateRule", "GradeCodeRule", "LocalIDRule"})
+  public String ruleName;
+
+  /**
+   * The corpus.
+   */
+  @Param({"CLEAN", "NAME_HEAVY", "BLOCKED_NAME", "BAD_DOB"})
+  public Corpus corpus;
+
+  private Rule rule;
+
+  private List<PenRequestStudentValidationPayload> payloads;
+
+  private int next;
+
+  /**
+   * Set up the rule and the payloads.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.rule = ValidationBenchmarkFixtures.rules(ValidationBenchmarkFixtures.restUtils(), ValidationBenchmarkFixtures.penNameTextService()).stream()
+        .filter(r -> r.getClass().getSimpleName().equals(this.ruleName))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown rule :: " + this.ruleName));
+    this.payloads = ValidationBenchmarkFixtures.payloads(this.corpus);
+  }
+
+  /**
+   * Validate the next payload of the corpus.
+   *
+   * @return the issues
+   */
+  @Benchmark
+  public List<PenRequestStudentValidationIssue> validate() {
+    final var payload = this.payloads.get(this.next++ % ValidationBenchmarkFixtures.CORPUS_SIZE);
+    payload.setIssueList(null);
+    return this.rule.validate(payload);
+  }
+}
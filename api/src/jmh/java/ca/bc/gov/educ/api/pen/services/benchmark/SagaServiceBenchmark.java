@@ -0,0 +1,83 @@
+package ca.bc.gov.educ.api.pen.services.benchmark;
+
+import ca.bc.gov.educ.api.pen.services.PenServicesApiResourceApplication;
+import ca.bc.gov.educ.api.pen.services.model.Saga;
+import ca.bc.gov.educ.api.pen.services.repository.SagaRepository;
+import ca.bc.gov.educ.api.pen.services.service.SagaService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.util.Pair;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static ca.bc.gov.educ.api.pen.services.constants.SagaEnum.PEN_SERVICES_STUDENT_MERGE_COMPLETE_SAGA;
+
+/**
+ * Benchmark of the bulk saga creation against the in memory database of the test profile, each invocation inserts one
+ * batch of sagas into an empty table, the rows per second are the batch size divided by the time of an invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SagaServiceBenchmark {
+
+  private static final String PAYLOAD = "{\"mergedFromPen\":\"123456789\",\"mergedToPen\":\"987654321\",\"legalFirstName\":\"Jack\",\"legalLastName\":\"Saga\",\"createUser\":\"test\",\"updateUser\":\"test\"}";
+
+  /**
+   * The number of sagas created by one invocation.
+   */
+  @Param({"1000", "10000"})
+  public int count;
+
+  private ConfigurableApplicationContext context;
+
+  private SagaService sagaService;
+
+  private SagaRepository sagaRepository;
+
+  private List<Pair<UUID, String>> payloads;
+
+  /**
+   * Start the application with the test profile and build the payloads.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.context = new SpringApplicationBuilder(PenServicesApiResourceApplication.class).profiles("test").run();
+    this.sagaService = this.context.getBean(SagaService.class);
+    this.sagaRepository = this.context.getBean(SagaRepository.class);
+    this.payloads = IntStream.range(0, this.count).mapToObj(i -> Pair.of(UUID.randomUUID(), PAYLOAD)).toList();
+  }
+
+  /**
+   * Empty the saga table, so every invocation inserts into the same table size.
+   */
+  @Setup(Level.Invocation)
+  public void emptySagas() {
+    this.sagaRepository.deleteAllInBatch();
+  }
+
+  /**
+   * Stop the application.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.context.close();
+  }
+
+  /**
+   * Create the batch of sagas.
+   *
+   * @return the sagas
+   */
+  @Benchmark
+  public List<Saga> createMultipleBatchSagaRecordsInDB() {
+    return this.sagaService.createMultipleBatchSagaRecordsInDB(PEN_SERVICES_STUDENT_MERGE_COMPLETE_SAGA.toString(), "test", this.payloads);
+  }
+}
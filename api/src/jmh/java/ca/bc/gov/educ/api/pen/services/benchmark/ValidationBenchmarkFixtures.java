@@ -0,0 +1,292 @@
+package ca.bc.gov.educ.api.pen.services.benchmark;
+
+import ca.bc.gov.educ.api.pen.services.model.PENNameText;
+import ca.bc.gov.educ.api.pen.services.properties.ApplicationProperties;
+import ca.bc.gov.educ.api.pen.services.rest.RestUtils;
+import ca.bc.gov.educ.api.pen.services.rules.PENNameTextIndex;
+import ca.bc.gov.educ.api.pen.services.rules.Rule;
+import ca.bc.gov.educ.api.pen.services.rules.impl.*;
+import ca.bc.gov.educ.api.pen.services.service.PENNameTextService;
+import ca.bc.gov.educ.api.pen.services.struct.v1.GenderCode;
+import ca.bc.gov.educ.api.pen.services.struct.v1.GradeCode;
+import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
+import ca.bc.gov.educ.api.pen.services.struct.v1.SchoolTombstone;
+import ca.bc.gov.educ.api.pen.services.util.PenCheckDigitUtil;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * The fixtures of the validation benchmarks, the reference data is read from the same json files the rule tests use and
+ * served from in memory stand ins for {@link RestUtils} and {@link PENNameTextService}, so the benchmarks measure the rules only.
+ */
+public final class ValidationBenchmarkFixtures {
+
+  /**
+   * The number of payloads in each corpus.
+   */
+  public static final int CORPUS_SIZE = 64;
+
+  private static final String[] FIRST_NAMES = {"MARCO", "OLIVIA", "LIAM", "EMMA", "NOAH", "CHARLOTTE", "WILLIAM", "AMELIA", "LUCAS", "SOPHIA", "BENJAMIN", "HARPER"};
+  private static final String[] LAST_NAMES = {"COX", "SMITH", "NGUYEN", "MARTIN", "SINGH", "TREMBLAY", "WILSON", "CHEN", "BROWN", "MACDONALD", "TAYLOR", "LEE"};
+  private static final String[] HEAVY_FIRST_NAMES = {"MARIE-ANNE JOSEPHINE", "JEAN-BAPTISTE FRANCOIS", "ALEXANDRA VICTORIA ROSE", "MOHAMMED ABDUL-RAHMAN"};
+  private static final String[] HEAVY_LAST_NAMES = {"VAN DER BERG-WILLIAMSON", "O'SULLIVAN-MACKENZIE", "DE LA CRUZ HERNANDEZ", "FITZGERALD-MONTGOMERY"};
+  private static final String[] HEAVY_MIDDLE_NAMES = {"ELIZABETH ANNE MARGARET", "JOHN PAUL GEORGE RINGO", "KATHERINE LOUISE", "SEBASTIAN THEODORE"};
+  private static final String[] BAD_DOBS = {"20001340", "2000-01-01", "18991231", "29991231", "", "ABCDEFGH", "20000230", "2000011"};
+  private static final String[] GRADES = {"01", "05", "08", "10", "12", "SU", "EU"};
+  /**
+   * The age on Sept 30 of the current school year of the clean payloads in each of the {@link #GRADES}, within the range {@link GradeCodeRule} accepts.
+   */
+  private static final int[] GRADE_AGES = {6, 10, 13, 16, 18, 15, 9};
+
+  private ValidationBenchmarkFixtures() {
+  }
+
+  /**
+   * The payload corpora benchmarked.
+   */
+  public enum Corpus {
+    /**
+     * Payloads without any issue.
+     */
+    CLEAN,
+    /**
+     * Payloads with long, multi part names exercising the character checks.
+     */
+    NAME_HEAVY,
+    /**
+     * Payloads whose legal names are in PEN_NAME_TEXT.
+     */
+    BLOCKED_NAME,
+    /**
+     * Payloads with invalid, past or future birth dates.
+     */
+    BAD_DOB
+  }
+
+  /**
+   * Gender codes.
+   *
+   * @return the list
+   */
+  public static List<GenderCode> genderCodes() {
+    return read("gender_codes.json", new TypeReference<>() {
+    });
+  }
+
+  /**
+   * Grade codes.
+   *
+   * @return the list
+   */
+  public static List<GradeCode> gradeCodes() {
+    return read("grade_codes.json", new TypeReference<>() {
+    });
+  }
+
+  /**
+   * Pen name texts.
+   *
+   * @return the list
+   */
+  public static List<PENNameText> penNameTexts() {
+    return read("pen_names_text_sample.json", new TypeReference<>() {
+    });
+  }
+
+  /**
+   * Rest utils serving the fixture reference data, every mincode is a public school.
+   *
+   * @return the rest utils
+   */
+  public static RestUtils restUtils() {
+    final List<GenderCode> genderCodes = genderCodes();
+    final List<GradeCode> gradeCodes = gradeCodes();
+    final Optional<SchoolTombstone> school = Optional.of(SchoolTombstone.builder().mincode("10200001").schoolCategoryCode("PUBLIC").build());
+    return new RestUtils(new ApplicationProperties(), null) {
+      @Override
+      public List<GenderCode> getGenderCodes() {
+        return genderCodes;
+      }
+
+      @Override
+      public List<GradeCode> getGradeCodes() {
+        return gradeCodes;
+      }
+
+      @Override
+      public Optional<SchoolTombstone> getSchoolByMincode(final String mincode) {
+        return school;
+      }
+    };
+  }
+
+  /**
+   * Pen name text service serving the fixture PEN_NAME_TEXT rows.
+   *
+   * @return the pen name text service
+   */
+  public static PENNameTextService penNameTextService() {
+    final List<PENNameText> penNameTexts = penNameTexts();
+    final PENNameTextIndex penNameTextIndex = PENNameTextIndex.of(penNameTexts);
+    return new PENNameTextService(null) {
+      @Override
+      public List<PENNameText> getPenNameTexts() {
+        return penNameTexts;
+      }
+
+      @Override
+      public PENNameTextIndex getPenNameTextIndex() {
+        return penNameTextIndex;
+      }
+    };
+  }
+
+  /**
+   * The rules, in the order of RulesConfig.
+   *
+   * @param restUtils          the rest utils
+   * @param penNameTextService the pen name text service
+   * @return the rules
+   */
+  public static List<Rule> rules(final RestUtils restUtils, final PENNameTextService penNameTextService) {
+    final var gradeCodeRule = new GradeCodeRule(restUtils);
+    gradeCodeRule.init();
+    return List.of(
+        new SubmittedPENRule(),
+        new LegalLastNameRule(penNameTextService),
+        new LegalFirstNameRule(penNameTextService),
+        new LegalMiddleNameRule(penNameTextService),
+        new UsualFirstNameRule(penNameTextService),
+        new UsualLastNameRule(penNameTextService),
+        new UsualMiddleNameRule(penNameTextService),
+        new GenderRule(restUtils),
+        new PostalCodeRule(),
+        new BirthDateRule(restUtils),
+        gradeCodeRule,
+        new LocalIDRule());
+  }
+
+  /**
+   * The payloads of a corpus, the same for every call. the CLEAN payloads are checked to not have any issue.
+   *
+   * @param corpus the corpus
+   * @return the payloads
+   */
+  public static List<PenRequestStudentValidationPayload> payloads(final Corpus corpus) {
+    final IntFunction<PenRequestStudentValidationPayload> factory = switch (corpus) {
+      case CLEAN -> ValidationBenchmarkFixtures::cleanPayload;
+      case NAME_HEAVY -> i -> {
+        final var payload = cleanPayload(i);
+        payload.setLegalFirstName(HEAVY_FIRST_NAMES[i % HEAVY_FIRST_NAMES.length]);
+        payload.setLegalMiddleNames(HEAVY_MIDDLE_NAMES[i % HEAVY_MIDDLE_NAMES.length]);
+        payload.setLegalLastName(HEAVY_LAST_NAMES[i % HEAVY_LAST_NAMES.length]);
+        payload.setUsualFirstName(HEAVY_FIRST_NAMES[(i + 1) % HEAVY_FIRST_NAMES.length]);
+        payload.setUsualMiddleNames(HEAVY_MIDDLE_NAMES[(i + 1) % HEAVY_MIDDLE_NAMES.length]);
+        payload.setUsualLastName(HEAVY_LAST_NAMES[(i + 1) % HEAVY_LAST_NAMES.length]);
+        return payload;
+      };
+      case BLOCKED_NAME -> {
+        final List<String> blockedNames = activeInvalidTexts();
+        yield i -> {
+          final var payload = cleanPayload(i);
+          payload.setLegalLastName(blockedNames.get(i % blockedNames.size()));
+          payload.setLegalFirstName(blockedNames.get((i * 7 + 3) % blockedNames.size()));
+          payload.setUsualMiddleNames(blockedNames.get((i * 13 + 5) % blockedNames.size()));
+          return payload;
+        };
+      }
+      case BAD_DOB -> i -> {
+        final var payload = cleanPayload(i);
+        payload.setDob(BAD_DOBS[i % BAD_DOBS.length]);
+        return payload;
+      };
+    };
+    if (corpus == Corpus.CLEAN) {
+      requireNoIssues(factory);
+    }
+    final List<PenRequestStudentValidationPayload> payloads = new ArrayList<>(CORPUS_SIZE);
+    for (int i = 0; i < CORPUS_SIZE; i++) {
+      payloads.add(factory.apply(i));
+    }
+    return Collections.unmodifiableList(payloads);
+  }
+
+  /**
+   * Run the rules over a copy of each payload of a corpus, as the rules record the issues on the payload.
+   *
+   * @param factory the payload factory of the corpus
+   * @throws IllegalStateException if any payload has an issue
+   */
+  private static void requireNoIssues(final IntFunction<PenRequestStudentValidationPayload> factory) {
+    final var rules = rules(restUtils(), penNameTextService());
+    for (int i = 0; i < CORPUS_SIZE; i++) {
+      final var payload = factory.apply(i);
+      for (final var rule : rules) {
+        payload.getIssueList().addAll(rule.validate(payload));
+      }
+      if (!payload.getIssueList().isEmpty()) {
+        throw new IllegalStateException("Clean payload " + i + " has issues :: " + payload.getIssueList());
+      }
+    }
+  }
+
+  private static PenRequestStudentValidationPayload cleanPayload(final int i) {
+    final long penWithoutCheckDigit = 12016444L + i * 37L;
+    final int grade = i % GRADES.length;
+    // born up to 360 days before the birthday which makes the student the age of the grade on Sept 30.
+    final var dob = schoolYearStart().minusYears(GRADE_AGES[grade]).minusDays(i * 53L % 360);
+    return PenRequestStudentValidationPayload.builder()
+        .isInteractive(false)
+        .transactionID(new UUID(0, i).toString())
+        .submittedPen(penWithoutCheckDigit + "" + PenCheckDigitUtil.calculateCheckDigit(penWithoutCheckDigit))
+        .legalFirstName(FIRST_NAMES[i % FIRST_NAMES.length])
+        .legalMiddleNames(FIRST_NAMES[(i + 5) % FIRST_NAMES.length])
+        .legalLastName(LAST_NAMES[i % LAST_NAMES.length])
+        .usualFirstName(FIRST_NAMES[(i + 3) % FIRST_NAMES.length])
+        .usualMiddleNames(FIRST_NAMES[(i + 7) % FIRST_NAMES.length])
+        .usualLastName(LAST_NAMES[(i + 2) % LAST_NAMES.length])
+        .dob(dob.toString().replace("-", ""))
+        .genderCode(i % 2 == 0 ? "M" : "F")
+        .gradeCode(GRADES[grade])
+        .postalCode("V8R4N4")
+        .localID("LOCAL" + i)
+        .mincode("10200001")
+        .submissionNumber("TSWWEB01")
+        .build();
+  }
+
+  /**
+   * Sept 30 of the current school year, which {@link GradeCodeRule} calculates the age on.
+   *
+   * @return the date
+   */
+  private static LocalDate schoolYearStart() {
+    final var today = LocalDate.now();
+    return LocalDate.of(today.getMonthValue() < 6 ? today.getYear() - 1 : today.getYear(), 9, 30);
+  }
+
+  private static List<String> activeInvalidTexts() {
+    final var today = LocalDate.now();
+    return penNameTexts().stream()
+        .filter(text -> text.getEffectiveDate() != null && text.getExpiryDate() != null)
+        .filter(text -> text.getEffectiveDate().isBefore(today) && text.getExpiryDate().isAfter(today))
+        .map(PENNameText::getInvalidText)
+        .distinct()
+        .toList();
+  }
+
+  private static <T> T read(final String resource, final TypeReference<T> type) {
+    try (InputStream inputStream = ValidationBenchmarkFixtures.class.getClassLoader().getResourceAsStream(resource)) {
+      return new ObjectMapper().readValue(Objects.requireNonNull(inputStream, resource), type);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package ca.bc.gov.educ.api.pen.services.benchmark;
+
+import ca.bc.gov.educ.api.pen.services.benchmark.ValidationBenchmarkFixtures.Corpus;
+import ca.bc.gov.educ.api.pen.services.service.PenRequestStudentRecordValidationService;
+import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
+import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the full validation of a student record, with the rules evaluated one after the other and concurrently.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationServiceBenchmark {
+
+  /**
+   * The corpus.
+   */
+  @Param({"CLEAN", "NAME_HEAVY", "BLOCKED_NAME", "BAD_DOB"})
+  public Corpus corpus;
+
+  /**
+   * Whether the independent rules are evaluated concurrently.
+   */
+  @Param({"false", "true"})
+  public boolean concurrent;
+
+  private PenRequestStudentRecordValidationService validationService;
+
+  private List<PenRequestStudentValidationPayload> payloads;
+
+  private int next;
+
+  /**
+   * Set up the validation service and the payloads.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    final var rules = ValidationBenchmarkFixtures.rules(ValidationBenchmarkFixtures.restUtils(), ValidationBenchmarkFixtures.penNameTextService());
+    this.validationService = new PenRequestStudentRecordValidationService(rules, 1, this.concurrent, Runtime.getRuntime().availableProcessors(), 1000, new SimpleMeterRegistry());
+    this.payloads = ValidationBenchmarkFixtures.payloads(this.corpus);
+  }
+
+  /**
+   * Shut the executors of the validation service down.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.validationService.close();
+  }
+
+  /**
+   * Validate the next payload of the corpus.
+   *
+   * @return the issues
+   */
+  @Benchmark
+  public List<PenRequestStudentValidationIssue> validateStudentRecord() {
+    final var payload = this.payloads.get(this.next++ % ValidationBenchmarkFixtures.CORPUS_SIZE);
+    payload.setIssueList(null);
+    return this.validationService.validateStudentRecord(payload);
+  }
+}
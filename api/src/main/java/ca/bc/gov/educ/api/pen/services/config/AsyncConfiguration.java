@@ -1,8 +1,12 @@
 package ca.bc.gov.educ.api.pen.services.config;
 
+import ca.bc.gov.educ.api.pen.services.constants.ExecutorThreadMode;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
 import ca.bc.gov.educ.api.pen.services.util.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.val;
 import org.jboss.threads.EnhancedQueueExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -20,17 +24,47 @@ import java.util.concurrent.Executor;
 @Profile("!test")
 public class AsyncConfiguration {
   /**
-   * Thread pool task executor executor.
+   * How the task executor and the saga event executor size their pools.
+   */
+  private final ExecutorThreadMode threadMode;
+
+  /**
+   * The maximum threads of each executor in {@link ExecutorThreadMode#ELASTIC} mode.
+   */
+  private final int elasticMaxThreads;
+
+  /**
+   * Instantiates a new Async configuration.
    *
-   * @return the executor
+   * @param threadMode        the thread mode
+   * @param elasticMaxThreads the elastic max threads
+   */
+  public AsyncConfiguration(@Value("${executor.thread.mode}") final ExecutorThreadMode threadMode, @Value("${executor.elastic.max.threads}") final int elasticMaxThreads) {
+    this.threadMode = threadMode;
+    this.elasticMaxThreads = elasticMaxThreads;
+  }
+
+  /**
+   * Saga event executor, the events and replays of a saga run one after the other on the stripe of its id while different
+   * sagas run in parallel. it took over the saga work of the subscriber executor, its stripes are bounded and publish the
+   * same queue, wait and thread meters.
+   * <p>
+   * a stripe stays a single thread to keep the events of a saga in order, so in elastic mode the executor gets more
+   * stripes instead, up to the elastic maximum, and their idle threads retire. a saga step blocked on a NATS request then
+   * holds up fewer of the other sagas, which hash to another stripe more often.
+   *
+   * @param stripes         the stripes
+   * @param stripeQueueSize the queue size of each stripe
+   * @param meterRegistry   the meter registry
+   * @return the striped executor
    */
-  @Bean(name = "subscriberExecutor")
-  public Executor threadPoolTaskExecutor() {
-    return new EnhancedQueueExecutor.Builder().setThreadFactory(new ThreadFactoryBuilder().withNameFormat("message-subscriber-%d").get())
-        .setCorePoolSize(10)
-        .setMaximumPoolSize(10)
-        .setKeepAliveTime(Duration.ofSeconds(60))
-        .build();
+  @Bean(name = "sagaEventExecutor")
+  public StripedExecutor sagaEventExecutor(@Value("${saga.executor.stripes}") final int stripes,
+                                           @Value("${saga.executor.stripe.queue.size}") final int stripeQueueSize, final MeterRegistry meterRegistry) {
+    if (this.threadMode == ExecutorThreadMode.ELASTIC) {
+      return new StripedExecutor("saga-event", this.maxThreads(stripes), stripeQueueSize, Duration.ofSeconds(60), meterRegistry);
+    }
+    return new StripedExecutor("saga-event", stripes, stripeQueueSize, meterRegistry);
   }
 
   /**
@@ -42,11 +76,19 @@ public class AsyncConfiguration {
   public Executor controllerTaskExecutor() {
     return new EnhancedQueueExecutor.Builder().setThreadFactory(new ThreadFactoryBuilder().withNameFormat("async-executor-%d").get())
       .setCorePoolSize(10)
-      .setMaximumPoolSize(10)
+      .setMaximumPoolSize(this.maxThreads(10))
       .setKeepAliveTime(Duration.ofSeconds(60))
       .build();
   }
 
+  /**
+   * The maximum threads of an executor, in elastic mode the pool grows so threads blocked on a NATS reply or a
+   * WebClient call do not hold up the rest of the work.
+   */
+  private int maxThreads(final int coreThreads) {
+    return this.threadMode == ExecutorThreadMode.ELASTIC ? Math.max(coreThreads, this.elasticMaxThreads) : coreThreads;
+  }
+
   @Bean
   public ThreadPoolTaskScheduler threadPoolTaskScheduler() {
     val threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
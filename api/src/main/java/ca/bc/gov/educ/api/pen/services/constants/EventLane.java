@@ -0,0 +1,42 @@
+package ca.bc.gov.educ.api.pen.services.constants;
+
+/**
+ * The enum Event lane, the events received on PEN_SERVICES_API_TOPIC are processed on one executor per lane so a flood of
+ * one kind of event does not queue up in front of the others.
+ */
+public enum EventLane {
+  /**
+   * Student demographics validation.
+   */
+  VALIDATION,
+  /**
+   * Next PEN number allocation.
+   */
+  PEN_ALLOCATION,
+  /**
+   * Merge writes.
+   */
+  MERGE,
+  /**
+   * Every other event.
+   */
+  OTHER;
+
+  /**
+   * The lane of an event type.
+   *
+   * @param eventType the event type, may be null
+   * @return the event lane
+   */
+  public static EventLane of(final EventType eventType) {
+    if (eventType == null) {
+      return OTHER;
+    }
+    return switch (eventType) {
+      case VALIDATE_STUDENT_DEMOGRAPHICS, VALIDATE_STUDENT_DEMOGRAPHICS_BATCH -> VALIDATION;
+      case GET_NEXT_PEN_NUMBER, GET_NEXT_PEN_NUMBER_BATCH -> PEN_ALLOCATION;
+      case CREATE_MERGE, DELETE_MERGE -> MERGE;
+      default -> OTHER;
+    };
+  }
+}
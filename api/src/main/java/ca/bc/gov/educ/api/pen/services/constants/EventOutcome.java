@@ -86,6 +86,10 @@ public enum EventOutcome {
    * Sld student program updated event outcome.
    */
   SLD_STUDENT_PROGRAM_UPDATED,
+  /**
+   * Batch rejected event outcome, the payload is the reason the batch was not processed.
+   */
+  BATCH_REJECTED,
   /**
    * Saga completed event outcome.
    */
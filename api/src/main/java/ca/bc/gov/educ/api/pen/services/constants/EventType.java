@@ -9,11 +9,21 @@ public enum EventType {
    */
   VALIDATE_STUDENT_DEMOGRAPHICS,
 
+  /**
+   * Validate a batch of student demographics event type.
+   */
+  VALIDATE_STUDENT_DEMOGRAPHICS_BATCH,
+
   /**
    * Get the next PEN number.
    */
   GET_NEXT_PEN_NUMBER,
 
+  /**
+   * Get the next PEN numbers for a batch of transactions.
+   */
+  GET_NEXT_PEN_NUMBER_BATCH,
+
   /**
    * Initiated event type.
    */
@@ -0,0 +1,18 @@
+package ca.bc.gov.educ.api.pen.services.constants;
+
+/**
+ * The enum Executor thread mode, how the task executor and the saga event executor size their thread pools.
+ */
+public enum ExecutorThreadMode {
+  /**
+   * The pool always has the configured number of threads.
+   */
+  FIXED,
+  /**
+   * The pool keeps the configured number of threads and grows up to the elastic maximum when all of them are busy,
+   * typically blocked on a NATS request or a WebClient call, the extra threads retire after a minute idle. the saga event
+   * executor keeps one thread per stripe for the ordering of a saga, it gets up to the elastic maximum stripes instead,
+   * whose threads retire after a minute idle.
+   */
+  ELASTIC
+}
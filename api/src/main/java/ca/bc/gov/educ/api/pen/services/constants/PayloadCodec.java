@@ -0,0 +1,82 @@
+package ca.bc.gov.educ.api.pen.services.constants;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The enum Payload codec, how the saga payloads and event responses are stored. a stored value carries its format in its
+ * first bytes, the gzip magic number, so the rows written before the codec was introduced, or with another codec, are
+ * still read whatever the codec configured. the configured codec is {@link #NONE} unless gzip is switched on explicitly.
+ */
+public enum PayloadCodec {
+  /**
+   * The value is stored as it is.
+   */
+  NONE {
+    @Override
+    public byte[] encode(final byte[] value) {
+      return value;
+    }
+  },
+  /**
+   * The value is stored gzip compressed, unless compressing does not make it smaller as for the short payloads.
+   * <p>
+   * the PAYLOAD and SAGA_EVENT_RESPONSE columns it writes are no longer json to anything reading the tables directly,
+   * the PEN_READONLY grants, the reporting queries and the support sql see gzip bytes for those rows. switching back to
+   * {@link #NONE} does not rewrite the rows already compressed, they stay that way until the purge job removes them.
+   */
+  GZIP {
+    @Override
+    public byte[] encode(final byte[] value) {
+      if (value == null) {
+        return null;
+      }
+      final var out = new ByteArrayOutputStream(value.length / 2 + 32);
+      try (final var gzip = new GZIPOutputStream(out)) {
+        gzip.write(value);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return out.size() < value.length ? out.toByteArray() : value;
+    }
+  };
+
+  /**
+   * The first byte of the gzip magic number.
+   */
+  private static final byte GZIP_MAGIC_FIRST = (byte) (GZIPInputStream.GZIP_MAGIC & 0xff);
+
+  /**
+   * The second byte of the gzip magic number.
+   */
+  private static final byte GZIP_MAGIC_SECOND = (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+
+  /**
+   * Encode the value to store.
+   *
+   * @param value the value
+   * @return the stored value
+   */
+  public abstract byte[] encode(byte[] value);
+
+  /**
+   * Decode a stored value, whichever codec wrote it. the json stored as it is never starts with the gzip magic number.
+   *
+   * @param stored the stored value
+   * @return the value
+   */
+  public static byte[] decode(final byte[] stored) {
+    if (stored == null || stored.length < 2 || stored[0] != GZIP_MAGIC_FIRST || stored[1] != GZIP_MAGIC_SECOND) {
+      return stored;
+    }
+    try (final var gzip = new GZIPInputStream(new ByteArrayInputStream(stored))) {
+      return gzip.readAllBytes();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
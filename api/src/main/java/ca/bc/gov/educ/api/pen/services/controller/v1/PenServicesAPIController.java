@@ -6,11 +6,13 @@ import ca.bc.gov.educ.api.pen.services.service.PenRequestBatchStudentValidationI
 import ca.bc.gov.educ.api.pen.services.service.PenRequestStudentRecordValidationService;
 import ca.bc.gov.educ.api.pen.services.service.PenService;
 import ca.bc.gov.educ.api.pen.services.struct.v1.*;
+import ca.bc.gov.educ.api.pen.services.validator.BatchRequestValidator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -37,6 +39,10 @@ public class PenServicesAPIController implements PenServicesAPIEndpoint {
    * The Prb validation issue codes service.
    */
   private final PenRequestBatchStudentValidationIssueCodesService prbValidationIssueCodesService;
+  /**
+   * The Batch request validator.
+   */
+  private final BatchRequestValidator batchRequestValidator;
 
   /**
    * Instantiates a new Pen validation api controller.
@@ -44,12 +50,14 @@ public class PenServicesAPIController implements PenServicesAPIEndpoint {
    * @param service                        the service
    * @param penService                     the pen service
    * @param prbValidationIssueCodesService the pen request batch validation issue codes service
+   * @param batchRequestValidator          the batch request validator
    */
   @Autowired
-  public PenServicesAPIController(final PenRequestStudentRecordValidationService service, final PenService penService, final PenRequestBatchStudentValidationIssueCodesService prbValidationIssueCodesService) {
+  public PenServicesAPIController(final PenRequestStudentRecordValidationService service, final PenService penService, final PenRequestBatchStudentValidationIssueCodesService prbValidationIssueCodesService, final BatchRequestValidator batchRequestValidator) {
     this.service = service;
     this.penService = penService;
     this.prbValidationIssueCodesService = prbValidationIssueCodesService;
+    this.batchRequestValidator = batchRequestValidator;
   }
 
   @Override
@@ -57,11 +65,23 @@ public class PenServicesAPIController implements PenServicesAPIEndpoint {
     return this.service.validateStudentRecord(validationPayload);
   }
 
+  @Override
+  public Map<String, List<PenRequestStudentValidationIssue>> validateStudentDataBatch(final List<PenRequestStudentValidationPayload> validationPayloads) {
+    this.batchRequestValidator.validateStudentValidationBatch(validationPayloads);
+    return this.service.validateStudentRecords(validationPayloads);
+  }
+
   @Override
   public CompletableFuture<String> getNextPenNumber(final UUID transactionID) {
     return CompletableFuture.completedFuture(this.penService.getNextPenNumber(transactionID.toString()));
   }
 
+  @Override
+  public Map<String, String> getNextPenNumbers(final List<UUID> transactionIDs) {
+    this.batchRequestValidator.validatePenNumberBatch(transactionIDs);
+    return this.penService.getNextPenNumbers(transactionIDs.stream().map(UUID::toString).toList());
+  }
+
   @Override
   public List<PenRequestBatchStudentValidationFieldCode> getPrbStudentValidationIssueFieldCodes() {
     return this.prbValidationIssueCodesService.getAllPrbValidationFieldCodes().stream().map(mapper::toStructure).collect(Collectors.toList());
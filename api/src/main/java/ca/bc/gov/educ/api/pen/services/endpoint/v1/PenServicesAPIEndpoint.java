@@ -14,6 +14,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -38,6 +39,20 @@ public interface PenServicesAPIEndpoint {
   @Schema(name = "PenRequestStudentValidationIssue", implementation = PenRequestStudentValidationIssue.class)
   List<PenRequestStudentValidationIssue> validateStudentData(@Validated @RequestBody PenRequestStudentValidationPayload validationPayload);
 
+  /**
+   * Validate a batch of student data in one call.
+   *
+   * @param validationPayloads the validation payloads, each with a unique transaction ID
+   * @return the map of transaction ID to the list of issues
+   */
+  @PostMapping("/validation/student-request/batch")
+  @PreAuthorize("hasAuthority('SCOPE_VALIDATE_STUDENT_DEMOGRAPHICS')")
+  @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
+  @Transactional
+  @Tag(name = "Endpoint to validate a batch of student requests.", description = "Endpoint to validate a batch of student requests, the results are keyed by transaction ID.")
+  @Schema(name = "PenRequestStudentValidationIssue", implementation = PenRequestStudentValidationIssue.class)
+  Map<String, List<PenRequestStudentValidationIssue>> validateStudentDataBatch(@RequestBody List<PenRequestStudentValidationPayload> validationPayloads);
+
   /**
    * Gets next pen number.
    *
@@ -51,6 +66,19 @@ public interface PenServicesAPIEndpoint {
   @Tag(name = "Endpoint to generate a new PEN number and return the same.", description = "Endpoint to generate a new PEN number and return the same. The transaction ID is mandatory, so that for each unique transaction only one PEN is issued.")
   CompletableFuture<String> getNextPenNumber(@RequestParam("transactionID") UUID transactionID);
 
+  /**
+   * Gets next pen numbers for a batch of transactions.
+   *
+   * @param transactionIDs the transaction ids
+   * @return the map of transaction ID to PEN
+   */
+  @PostMapping("/next-pen-number/batch")
+  @PreAuthorize("hasAuthority('SCOPE_GET_NEXT_PEN_NUMBER')")
+  @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "OK"), @ApiResponse(responseCode = "400", description = "BAD REQUEST")})
+  @Transactional
+  @Tag(name = "Endpoint to generate new PEN numbers for a batch of transactions.", description = "Endpoint to generate new PEN numbers for a batch of transactions, the PENs are keyed by transaction ID. A transaction ID which already got a PEN gets the same PEN again.")
+  Map<String, String> getNextPenNumbers(@RequestBody List<UUID> transactionIDs);
+
   /**
    * Gets list of pen request batch student validation field codes
    *
@@ -2,7 +2,7 @@ package ca.bc.gov.educ.api.pen.services.helpers;
 
 import ca.bc.gov.educ.api.pen.services.model.Saga;
 import ca.bc.gov.educ.api.pen.services.properties.ApplicationProperties;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import ca.bc.gov.educ.api.pen.services.util.JsonUtil;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -12,6 +12,7 @@ import org.springframework.lang.NonNull;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
@@ -19,7 +20,6 @@ import java.util.Map;
 
 @Slf4j
 public final class LogHelper {
-  private static final ObjectMapper mapper = new ObjectMapper();
   private static final String EXCEPTION = "Exception ";
 
   private LogHelper() {
@@ -43,7 +43,7 @@ public final class LogHelper {
       httpMap.put("server_http_request_payload", String.valueOf(request.getAttribute("payload")));
       httpMap.put("server_http_request_remote_address", request.getRemoteAddr());
       httpMap.put("server_http_request_client_name", StringUtils.trimToEmpty(request.getHeader("X-Client-Name")));
-      MDC.putCloseable("httpEvent", mapper.writeValueAsString(httpMap));
+      MDC.putCloseable("httpEvent", JsonUtil.getJsonStringFromObject(httpMap));
       log.info("");
       MDC.clear();
     } catch (final Exception exception) {
@@ -60,7 +60,7 @@ public final class LogHelper {
       if (correlationID != null) {
         httpMap.put("correlation_id", String.join(",", correlationID));
       }
-      MDC.putCloseable("httpEvent", mapper.writeValueAsString(httpMap));
+      MDC.putCloseable("httpEvent", JsonUtil.getJsonStringFromObject(httpMap));
       log.info("");
       MDC.clear();
     } catch (final Exception exception) {
@@ -74,6 +74,9 @@ public final class LogHelper {
    * @param event the json string
    */
   public static void logMessagingEventDetails(final String event) {
+    if (!log.isDebugEnabled()) {
+      return;
+    }
     try {
       MDC.putCloseable("messageEvent", event);
       log.debug("");
@@ -83,13 +86,24 @@ public final class LogHelper {
     }
   }
 
+  /**
+   * the event is the json bytes of a message, turned into a string only when debug logging is enabled.
+   *
+   * @param event the json bytes
+   */
+  public static void logMessagingEventDetails(final byte[] event) {
+    if (log.isDebugEnabled()) {
+      logMessagingEventDetails(new String(event, StandardCharsets.UTF_8));
+    }
+  }
+
   public static void logSagaRetry(final Saga saga) {
     final Map<String, Object> retrySagaMap = new HashMap<>();
     try {
       retrySagaMap.put("sagaName", saga.getSagaName());
       retrySagaMap.put("sagaId", saga.getSagaId());
       retrySagaMap.put("retryCount", saga.getRetryCount());
-      MDC.putCloseable("sagaRetry", mapper.writeValueAsString(retrySagaMap));
+      MDC.putCloseable("sagaRetry", JsonUtil.getJsonStringFromObject(retrySagaMap));
       log.info("Saga is being retried.");
       MDC.clear();
     } catch (final Exception ex) {
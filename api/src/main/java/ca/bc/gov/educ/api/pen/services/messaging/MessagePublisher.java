@@ -1,13 +1,20 @@
 package ca.bc.gov.educ.api.pen.services.messaging;
 
+import ca.bc.gov.educ.api.pen.services.properties.ApplicationProperties;
+import ca.bc.gov.educ.api.pen.services.util.BoundedExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.nats.client.Connection;
+import io.nats.client.Message;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PreDestroy;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The type Message publisher.
@@ -16,20 +23,32 @@ import java.util.Optional;
 @Slf4j
 public class MessagePublisher {
 
+  /**
+   * How long a request waits for its reply.
+   */
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
 
   /**
    * The Connection.
    */
   private final Connection connection;
 
+  /**
+   * Completes the asynchronous requests, so the steps composed on a reply do not run on the NATS dispatcher thread.
+   */
+  private final BoundedExecutor replyExecutor;
+
   /**
    * Instantiates a new Message publisher.
    *
-   * @param con the con
+   * @param con           the con
+   * @param props         the props
+   * @param meterRegistry the meter registry
    */
   @Autowired
-  public MessagePublisher(final Connection con) {
+  public MessagePublisher(final Connection con, final ApplicationProperties props, final MeterRegistry meterRegistry) {
     this.connection = con;
+    this.replyExecutor = new BoundedExecutor("nats-reply", props.getReplyThreads(), props.getReplyQueueSize(), meterRegistry);
   }
 
   /**
@@ -42,13 +61,52 @@ public class MessagePublisher {
     this.connection.publish(subject, message);
   }
 
+  /**
+   * Request message, blocking the calling thread until the reply arrives.
+   *
+   * @param subject the subject
+   * @param message the message
+   * @return the reply, empty if the reply has no data
+   * @throws InterruptedException the interrupted exception
+   */
   public Optional<String> requestMessage(final String subject, final byte[] message) throws InterruptedException {
     log.info("requesting from NATS on topic :: {} with payload :: {}", subject, new String(message));
-    val response = this.connection.request(subject, message, Duration.ofSeconds(30)).getData();
-    if (response == null || response.length == 0) {
+    return toResponseValue(this.connection.request(subject, message, REQUEST_TIMEOUT));
+  }
+
+  /**
+   * Request message without blocking, the future completes on the reply executor once the reply arrives.
+   *
+   * @param subject the subject
+   * @param message the message
+   * @return the reply, empty if the reply has no data, the request timed out or failed
+   */
+  public CompletableFuture<Optional<String>> requestMessageAsync(final String subject, final byte[] message) {
+    log.info("requesting asynchronously from NATS on topic :: {} with payload :: {}", subject, new String(message));
+    return this.connection.request(subject, message)
+        .orTimeout(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+        .handleAsync((response, throwable) -> {
+          if (throwable != null) {
+            log.error("request to NATS on topic :: {} failed", subject, throwable);
+            return Optional.empty();
+          }
+          return toResponseValue(response);
+        }, this.replyExecutor);
+  }
+
+  /**
+   * Shutdown the reply executor.
+   */
+  @PreDestroy
+  public void close() {
+    this.replyExecutor.shutdown();
+  }
+
+  private static Optional<String> toResponseValue(final Message response) {
+    if (response == null || response.getData() == null || response.getData().length == 0) {
       return Optional.empty();
     }
-    val responseValue = new String(response);
+    val responseValue = new String(response.getData());
     log.info("got response from NATS :: {}", responseValue);
     return Optional.of(responseValue);
   }
@@ -1,10 +1,15 @@
 package ca.bc.gov.educ.api.pen.services.messaging;
 
+import ca.bc.gov.educ.api.pen.services.constants.EventLane;
 import ca.bc.gov.educ.api.pen.services.helpers.LogHelper;
 import ca.bc.gov.educ.api.pen.services.orchestrator.base.EventHandler;
+import ca.bc.gov.educ.api.pen.services.properties.ApplicationProperties;
 import ca.bc.gov.educ.api.pen.services.service.events.EventHandlerDelegatorService;
 import ca.bc.gov.educ.api.pen.services.struct.v1.Event;
+import ca.bc.gov.educ.api.pen.services.util.BoundedExecutor;
 import ca.bc.gov.educ.api.pen.services.util.JsonUtil;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.nats.client.Connection;
 import io.nats.client.Message;
 import io.nats.client.MessageHandler;
@@ -14,6 +19,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +50,18 @@ public class MessageSubscriber {
    * The Connection.
    */
   private final Connection connection;
+  /**
+   * The Application properties.
+   */
+  private final ApplicationProperties props;
+  /**
+   * The executors of the events received on PEN_SERVICES_API_TOPIC, by lane.
+   */
+  private final Map<EventLane, BoundedExecutor> laneExecutors = new EnumMap<>(EventLane.class);
+  /**
+   * The executor of the saga events, the events of a saga are handled one after the other.
+   */
+  private final StripedExecutor sagaEventExecutor;
 
   /**
    * Instantiates a new Message subscriber.
@@ -50,11 +69,21 @@ public class MessageSubscriber {
    * @param con                          the con
    * @param eventHandlerDelegatorService the event handler delegator service
    * @param eventHandlers                the event handlers
+   * @param props                        the application properties
+   * @param meterRegistry                the meter registry
+   * @param sagaEventExecutor            the saga event executor
    */
   @Autowired
-  public MessageSubscriber(final Connection con, final EventHandlerDelegatorService eventHandlerDelegatorService, final List<EventHandler> eventHandlers) {
+  public MessageSubscriber(final Connection con, final EventHandlerDelegatorService eventHandlerDelegatorService, final List<EventHandler> eventHandlers,
+                           final ApplicationProperties props, final MeterRegistry meterRegistry, final StripedExecutor sagaEventExecutor) {
     this.eventHandlerDelegatorService = eventHandlerDelegatorService;
     this.connection = con;
+    this.props = props;
+    this.sagaEventExecutor = sagaEventExecutor;
+    this.laneExecutors.put(EventLane.VALIDATION, this.createLaneExecutor(EventLane.VALIDATION, props.getValidationLaneThreads(), meterRegistry));
+    this.laneExecutors.put(EventLane.PEN_ALLOCATION, this.createLaneExecutor(EventLane.PEN_ALLOCATION, props.getPenAllocationLaneThreads(), meterRegistry));
+    this.laneExecutors.put(EventLane.MERGE, this.createLaneExecutor(EventLane.MERGE, props.getMergeLaneThreads(), meterRegistry));
+    this.laneExecutors.put(EventLane.OTHER, this.createLaneExecutor(EventLane.OTHER, props.getOtherLaneThreads(), meterRegistry));
     eventHandlers.forEach(handler -> {
       this.handlerMap.put(handler.getTopicToSubscribe(), handler);
       this.subscribeForSAGA(handler.getTopicToSubscribe(), handler);
@@ -67,14 +96,13 @@ public class MessageSubscriber {
    * @param eventHandler the orchestrator
    * @return the message handler
    */
-  private static MessageHandler onMessageForSAGA(final EventHandler eventHandler) {
+  private MessageHandler onMessageForSAGA(final EventHandler eventHandler) {
     return (Message message) -> {
       if (message != null) {
         log.info("Message received subject :: {},  replyTo :: {}, subscriptionID :: {}", message.getSubject(), message.getReplyTo(), message.getSID());
         try {
-          final var eventString = new String(message.getData());
-          final var event = JsonUtil.getJsonObjectFromString(Event.class, eventString);
-          eventHandler.handleEvent(event);
+          final var event = JsonUtil.getJsonObjectFromByteArray(Event.class, message.getData());
+          this.sagaEventExecutor.execute(event.getSagaId(), () -> this.handleSagaEvent(eventHandler, event));
         } catch (final Exception e) {
           log.error("Exception ", e);
         }
@@ -82,8 +110,19 @@ public class MessageSubscriber {
     };
   }
 
+  private void handleSagaEvent(final EventHandler eventHandler, final Event event) {
+    try {
+      eventHandler.handleEvent(event);
+    } catch (final InterruptedException e) {
+      log.error("InterruptedException while handling saga event :: {}", event, e);
+      Thread.currentThread().interrupt();
+    } catch (final Exception e) {
+      log.error("Exception while handling saga event :: {}", event, e);
+    }
+  }
+
   /**
-   * Subscribe the topic on messages for SAGA
+   * Subscribe the topic on messages for SAGA, each dispatcher joins the same queue group so the messages are spread across them.
    *
    * @param topic        the topic name
    * @param eventHandler the orchestrator
@@ -91,22 +130,36 @@ public class MessageSubscriber {
   private void subscribeForSAGA(final String topic, final EventHandler eventHandler) {
     this.handlerMap.computeIfAbsent(topic, k -> eventHandler);
     final String queue = topic.replace("_", "-");
-    final var dispatcher = this.connection.createDispatcher(MessageSubscriber.onMessageForSAGA(eventHandler));
-    dispatcher.subscribe(topic, queue);
+    for (int i = 0; i < this.props.getSagaTopicDispatchers(); i++) {
+      final var dispatcher = this.connection.createDispatcher(this.onMessageForSAGA(eventHandler));
+      dispatcher.subscribe(topic, queue);
+    }
   }
 
   /**
-   * Subscribe the topic on messages for API
+   * Subscribe the topic on messages for API, each dispatcher joins the same queue group so the messages are spread across them.
    */
   @PostConstruct
   public void subscribe() {
     final String queue = PEN_SERVICES_API_TOPIC.toString().replace("_", "-");
-    final var dispatcher = this.connection.createDispatcher(this.onMessage());
-    dispatcher.subscribe(PEN_SERVICES_API_TOPIC.toString(), queue);
+    for (int i = 0; i < this.props.getApiTopicDispatchers(); i++) {
+      final var dispatcher = this.connection.createDispatcher(this.onMessage());
+      dispatcher.subscribe(PEN_SERVICES_API_TOPIC.toString(), queue);
+    }
   }
 
   /**
-   * On message, event handler for API
+   * Shutdown the lane executors.
+   */
+  @PreDestroy
+  public void close() {
+    this.laneExecutors.values().forEach(BoundedExecutor::shutdown);
+  }
+
+  /**
+   * On message, event handler for API. the dispatcher thread only decodes the event and hands it to the executor of its
+   * lane, when that lane is full the dispatcher waits for a free slot, which slows the intake down. the dispatcher is
+   * shared by every lane, so it never runs an event itself.
    *
    * @return the message handler
    */
@@ -115,15 +168,18 @@ public class MessageSubscriber {
       if (message != null) {
         log.debug("Message received is :: {} ", message);
         try {
-          final var eventString = new String(message.getData());
-          LogHelper.logMessagingEventDetails(eventString);
-          final var event = JsonUtil.getJsonObjectFromString(Event.class, eventString);
-          this.eventHandlerDelegatorService.handleEvent(event, message);
+          LogHelper.logMessagingEventDetails(message.getData());
+          final var event = JsonUtil.getJsonObjectFromByteArray(Event.class, message.getData());
           log.debug("Event is :: {}", event);
+          this.laneExecutors.get(EventLane.of(event.getEventType())).execute(() -> this.eventHandlerDelegatorService.handleEvent(event, message));
         } catch (final Exception e) {
           log.error("Exception ", e);
         }
       }
     };
   }
+
+  private BoundedExecutor createLaneExecutor(final EventLane lane, final int threads, final MeterRegistry meterRegistry) {
+    return new BoundedExecutor("event-lane-" + lane.name().toLowerCase().replace('_', '-'), threads, threads, this.props.getLaneQueueSize(), BoundedExecutor.Overflow.BLOCK, meterRegistry);
+  }
 }
@@ -77,9 +77,8 @@ public class Subscriber {
   public void onPenServicesEventsTopic(final Message message) {
     log.info("Received message Subject:: {} , SID :: {} , sequence :: {}, pending :: {} ", message.getSubject(), message.getSID(), message.metaData().consumerSequence(), message.metaData().pendingCount());
     try {
-      val eventString = new String(message.getData());
-      LogHelper.logMessagingEventDetails(eventString);
-      final ChoreographedEvent event = JsonUtil.getJsonObjectFromString(ChoreographedEvent.class, eventString);
+      LogHelper.logMessagingEventDetails(message.getData());
+      final ChoreographedEvent event = JsonUtil.getJsonObjectFromByteArray(ChoreographedEvent.class, message.getData());
       log.info("received event :: {} ", event);
       this.jetStreamEventHandlerService.updateEventStatus(event);
       message.ack();
@@ -0,0 +1,39 @@
+package ca.bc.gov.educ.api.pen.services.model;
+
+import ca.bc.gov.educ.api.pen.services.constants.PayloadCodec;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Encodes the saga payloads and event responses with the configured {@link PayloadCodec} when they are written and
+ * decodes them, whatever codec wrote them, when they are read. only this converter can read a compressed column, see
+ * {@link PayloadCodec#GZIP} for what it means to the readers of the tables.
+ */
+@Converter
+public class PayloadConverter implements AttributeConverter<byte[], byte[]> {
+
+  /**
+   * The codec the values are written with.
+   */
+  private final PayloadCodec codec;
+
+  /**
+   * Instantiates a new Payload converter.
+   *
+   * @param codec the codec
+   */
+  public PayloadConverter(@Value("${saga.payload.codec}") final PayloadCodec codec) {
+    this.codec = codec;
+  }
+
+  @Override
+  public byte[] convertToDatabaseColumn(final byte[] attribute) {
+    return this.codec.encode(attribute);
+  }
+
+  @Override
+  public byte[] convertToEntityAttribute(final byte[] dbData) {
+    return PayloadCodec.decode(dbData);
+  }
+}
@@ -0,0 +1,40 @@
+package ca.bc.gov.educ.api.pen.services.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The highest PEN leased from a redis allocation counter, so the counter is never seeded below it again.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "PEN_SERVICES_PEN_ALLOCATION")
+@Data
+public class PenAllocationEntity {
+  /**
+   * The name of the redis counter.
+   */
+  @Id
+  @Column(name = "ALLOCATION_NAME", updatable = false)
+  private String allocationName;
+  /**
+   * The last PEN, without check digit, of the most recent block leased.
+   */
+  @Column(name = "HIGH_WATER_MARK", nullable = false)
+  private Long highWaterMark;
+  /**
+   * The Update date.
+   */
+  @Column(name = "UPDATE_DATE", nullable = false)
+  private LocalDateTime updateDate;
+}
@@ -61,6 +61,7 @@ public class Saga {
    */
   @NotNull(message = "payload cannot be null")
   @Lob
+  @Convert(converter = PayloadConverter.class)
   @Column(name = "PAYLOAD")
   byte[] payloadBytes;
 
@@ -104,6 +105,19 @@ public class Saga {
   @Column(name = "RETRY_COUNT")
   private Integer retryCount;
 
+  /**
+   * The step number of the last event state written, so the next step is numbered without reading the event states.
+   */
+  @Column(name = "STEP_NUMBER")
+  private Integer stepNumber;
+
+  /**
+   * The step of the last event state a replay runs again, set by the replay only. the event state of that step is
+   * already recorded, so it is not written again.
+   */
+  @Transient
+  private Integer replayedStepNumber;
+
   /**
    * Gets payload.
    *
@@ -0,0 +1,36 @@
+package ca.bc.gov.educ.api.pen.services.model;
+
+import java.util.UUID;
+
+/**
+ * The columns of a saga event state without the event response, so reading it does not fetch the response LOB.
+ */
+public interface SagaEventStateSummary {
+  /**
+   * Gets saga event id.
+   *
+   * @return the saga event id
+   */
+  UUID getSagaEventId();
+
+  /**
+   * Gets saga event state.
+   *
+   * @return the saga event state
+   */
+  String getSagaEventState();
+
+  /**
+   * Gets saga event outcome.
+   *
+   * @return the saga event outcome
+   */
+  String getSagaEventOutcome();
+
+  /**
+   * Gets saga step number.
+   *
+   * @return the saga step number
+   */
+  Integer getSagaStepNumber();
+}
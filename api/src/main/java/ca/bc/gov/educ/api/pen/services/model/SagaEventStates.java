@@ -20,10 +20,15 @@ import java.util.UUID;
 @NoArgsConstructor
 @Data
 @Entity
-@Table(name = "PEN_SERVICES_SAGA_EVENT_STATES")
+@Table(name = "PEN_SERVICES_SAGA_EVENT_STATES", uniqueConstraints = {@UniqueConstraint(name = SagaEventStates.SAGA_ID_STEP_CONSTRAINT, columnNames = {"SAGA_ID", "SAGA_STEP_NUMBER"})})
 @DynamicUpdate
 public class SagaEventStates {
 
+  /**
+   * The unique constraint on the saga id and the step number, a step of a saga is recorded once.
+   */
+  public static final String SAGA_ID_STEP_CONSTRAINT = "UQ_SAGA_EVENT_STATES_SAGA_ID_STEP";
+
   /**
    * The Saga event id.
    */
@@ -69,6 +74,7 @@ public class SagaEventStates {
    * The Saga event response.
    */
   @Lob
+  @Convert(converter = PayloadConverter.class)
   @Column(name = "SAGA_EVENT_RESPONSE")
   byte[] sagaEventResponseBytes;
 
@@ -10,8 +10,10 @@ import ca.bc.gov.educ.api.pen.services.struct.v1.BaseStudentSagaData;
 import ca.bc.gov.educ.api.pen.services.struct.v1.Event;
 import ca.bc.gov.educ.api.pen.services.struct.v1.StudentSagaData;
 import ca.bc.gov.educ.api.pen.services.util.JsonUtil;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.UUID;
 
@@ -35,14 +37,16 @@ public abstract class BaseUserActionsOrchestrator<T> extends BaseOrchestrator<T>
   /**
    * Instantiates a new Base user actions orchestrator.
    *
-   * @param sagaService      the saga service
-   * @param messagePublisher the message publisher
-   * @param clazz            the clazz
-   * @param sagaName         the saga name
-   * @param topicToSubscribe the topic to subscribe
+   * @param sagaService       the saga service
+   * @param messagePublisher  the message publisher
+   * @param sagaEventExecutor the saga event executor
+   * @param transactionManager the transaction manager
+   * @param clazz             the clazz
+   * @param sagaName          the saga name
+   * @param topicToSubscribe  the topic to subscribe
    */
-  protected BaseUserActionsOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, final Class<T> clazz, final String sagaName, final String topicToSubscribe) {
-    super(sagaService, messagePublisher, clazz, sagaName, topicToSubscribe);
+  protected BaseUserActionsOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, final StripedExecutor sagaEventExecutor, final PlatformTransactionManager transactionManager, final Class<T> clazz, final String sagaName, final String topicToSubscribe) {
+    super(sagaService, messagePublisher, sagaEventExecutor, transactionManager, clazz, sagaName, topicToSubscribe);
   }
 
   /**
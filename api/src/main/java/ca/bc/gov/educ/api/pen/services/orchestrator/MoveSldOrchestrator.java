@@ -8,10 +8,12 @@ import ca.bc.gov.educ.api.pen.services.orchestrator.base.BaseOrchestrator;
 import ca.bc.gov.educ.api.pen.services.service.SagaService;
 import ca.bc.gov.educ.api.pen.services.struct.v1.*;
 import ca.bc.gov.educ.api.pen.services.util.JsonUtil;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 
 
 import static ca.bc.gov.educ.api.pen.services.constants.EventOutcome.*;
@@ -35,11 +37,13 @@ public class MoveSldOrchestrator extends BaseOrchestrator<MoveMultipleSldSagaDat
   /**
    * Instantiates a new Base orchestrator.
    *
-   * @param sagaService      the saga service
-   * @param messagePublisher the message publisher
+   * @param sagaService       the saga service
+   * @param messagePublisher  the message publisher
+   * @param sagaEventExecutor the saga event executor
+   * @param transactionManager the transaction manager
    */
-  public MoveSldOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher) {
-    super(sagaService, messagePublisher, MoveMultipleSldSagaData.class, PEN_SERVICES_MOVE_SLD_SAGA.toString(), PEN_SERVICES_MOVE_SLD_SAGA_TOPIC.toString());
+  public MoveSldOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, final StripedExecutor sagaEventExecutor, final PlatformTransactionManager transactionManager) {
+    super(sagaService, messagePublisher, sagaEventExecutor, transactionManager, MoveMultipleSldSagaData.class, PEN_SERVICES_MOVE_SLD_SAGA.toString(), PEN_SERVICES_MOVE_SLD_SAGA_TOPIC.toString());
   }
 
   /**
@@ -8,11 +8,11 @@ import ca.bc.gov.educ.api.pen.services.model.SagaEventStates;
 import ca.bc.gov.educ.api.pen.services.service.SagaService;
 import ca.bc.gov.educ.api.pen.services.struct.v1.*;
 import ca.bc.gov.educ.api.pen.services.util.JsonUtil;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 
@@ -34,19 +34,16 @@ public class SplitPenOrchestrator extends BaseUserActionsOrchestrator<SplitPenSa
    */
   protected static final StudentMapper studentMapper = StudentMapper.mapper;
 
-  /**
-   * The Ob mapper.
-   */
-  private final ObjectMapper obMapper = new ObjectMapper();
-
   /**
    * Instantiates a new Base orchestrator.
    *
-   * @param sagaService      the saga service
-   * @param messagePublisher the message publisher
+   * @param sagaService       the saga service
+   * @param messagePublisher  the message publisher
+   * @param sagaEventExecutor the saga event executor
+   * @param transactionManager the transaction manager
    */
-  public SplitPenOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher) {
-    super(sagaService, messagePublisher, SplitPenSagaData.class, PEN_SERVICES_SPLIT_PEN_SAGA.toString(), PEN_SERVICES_SPLIT_PEN_SAGA_TOPIC.toString());
+  public SplitPenOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, final StripedExecutor sagaEventExecutor, final PlatformTransactionManager transactionManager) {
+    super(sagaService, messagePublisher, sagaEventExecutor, transactionManager, SplitPenSagaData.class, PEN_SERVICES_SPLIT_PEN_SAGA.toString(), PEN_SERVICES_SPLIT_PEN_SAGA_TOPIC.toString());
   }
 
   /**
@@ -185,10 +182,7 @@ public class SplitPenOrchestrator extends BaseUserActionsOrchestrator<SplitPenSa
    * @throws JsonProcessingException the json processing exception
    */
   public void markSplitPenSagaComplete(final Event event, final Saga saga, final SplitPenSagaData splitPenSagaData) throws JsonProcessingException {
-    JavaType type = obMapper.getTypeFactory().
-      constructCollectionType(List.class, PossibleMatch.class);
-
-    List<PossibleMatch> possibleMatches = obMapper.readValue(event.getEventPayload(), type);
+    List<PossibleMatch> possibleMatches = JsonUtil.getJsonListFromString(PossibleMatch.class, event.getEventPayload());
     var studentID = possibleMatches.stream()
       .filter(match -> ! match.getStudentID().equals(splitPenSagaData.getStudentID()))
       .findFirst()
@@ -8,12 +8,12 @@ import ca.bc.gov.educ.api.pen.services.service.SagaService;
 import ca.bc.gov.educ.api.pen.services.struct.v1.*;
 import ca.bc.gov.educ.api.pen.services.util.CodeUtil;
 import ca.bc.gov.educ.api.pen.services.util.JsonUtil;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -36,11 +36,13 @@ public class StudentDemergeCompleteOrchestrator extends BaseUserActionsOrchestra
   /**
    * Instantiates a new Base orchestrator.
    *
-   * @param sagaService      the saga service
-   * @param messagePublisher the message publisher
+   * @param sagaService       the saga service
+   * @param messagePublisher  the message publisher
+   * @param sagaEventExecutor the saga event executor
+   * @param transactionManager the transaction manager
    */
-  public StudentDemergeCompleteOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher) {
-    super(sagaService, messagePublisher, StudentDemergeCompleteSagaData.class, PEN_SERVICES_STUDENT_DEMERGE_COMPLETE_SAGA.toString(), PEN_SERVICES_DEMERGE_STUDENTS_SAGA_TOPIC.toString());
+  public StudentDemergeCompleteOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, final StripedExecutor sagaEventExecutor, final PlatformTransactionManager transactionManager) {
+    super(sagaService, messagePublisher, sagaEventExecutor, transactionManager, StudentDemergeCompleteSagaData.class, PEN_SERVICES_STUDENT_DEMERGE_COMPLETE_SAGA.toString(), PEN_SERVICES_DEMERGE_STUDENTS_SAGA_TOPIC.toString());
   }
 
   /**
@@ -98,9 +100,7 @@ public class StudentDemergeCompleteOrchestrator extends BaseUserActionsOrchestra
 
     // Retrieve history
     final StudentHistory studentHistory;
-    final ObjectMapper objectMapper = new ObjectMapper();
-    final JavaType type = objectMapper.getTypeFactory().constructCollectionType(List.class, StudentHistory.class);
-    final List<StudentHistory> historyList = objectMapper.readValue(event.getEventPayload(), type);
+    final List<StudentHistory> historyList = JsonUtil.getJsonListFromString(StudentHistory.class, event.getEventPayload());
 
     // Find the demog from the last merge history
     final List<StudentHistory> merges = historyList.stream().filter(h -> (StringUtils.equals(h.getHistoryActivityCode(), StudentHistoryActivityCodes.MERGE.getCode()))
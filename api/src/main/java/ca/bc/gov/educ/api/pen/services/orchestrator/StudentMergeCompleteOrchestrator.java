@@ -9,20 +9,24 @@ import ca.bc.gov.educ.api.pen.services.struct.Student;
 import ca.bc.gov.educ.api.pen.services.struct.v1.*;
 import ca.bc.gov.educ.api.pen.services.util.CodeUtil;
 import ca.bc.gov.educ.api.pen.services.util.JsonUtil;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static ca.bc.gov.educ.api.pen.services.constants.EventOutcome.*;
 import static ca.bc.gov.educ.api.pen.services.constants.EventType.*;
 import static ca.bc.gov.educ.api.pen.services.constants.SagaEnum.PEN_SERVICES_STUDENT_MERGE_COMPLETE_SAGA;
+import static ca.bc.gov.educ.api.pen.services.constants.SagaStatusEnum.COMPLETED;
 import static ca.bc.gov.educ.api.pen.services.constants.SagaStatusEnum.IN_PROGRESS;
 import static ca.bc.gov.educ.api.pen.services.constants.TopicsEnum.*;
 
@@ -35,11 +39,13 @@ public class StudentMergeCompleteOrchestrator extends BaseUserActionsOrchestrato
   /**
    * Instantiates a new Base orchestrator.
    *
-   * @param sagaService      the saga service
-   * @param messagePublisher the message publisher
+   * @param sagaService       the saga service
+   * @param messagePublisher  the message publisher
+   * @param sagaEventExecutor the saga event executor
+   * @param transactionManager the transaction manager
    */
-  public StudentMergeCompleteOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher) {
-    super(sagaService, messagePublisher, StudentMergeCompleteSagaData.class, PEN_SERVICES_STUDENT_MERGE_COMPLETE_SAGA.toString(), PEN_SERVICES_MERGE_STUDENTS_SAGA_TOPIC.toString());
+  public StudentMergeCompleteOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, final StripedExecutor sagaEventExecutor, final PlatformTransactionManager transactionManager) {
+    super(sagaService, messagePublisher, sagaEventExecutor, transactionManager, StudentMergeCompleteSagaData.class, PEN_SERVICES_STUDENT_MERGE_COMPLETE_SAGA.toString(), PEN_SERVICES_MERGE_STUDENTS_SAGA_TOPIC.toString());
   }
 
   /**
@@ -104,25 +110,68 @@ public class StudentMergeCompleteOrchestrator extends BaseUserActionsOrchestrato
    * @param studentMergeCompleteSagaData the student merge saga data
    * @throws JsonProcessingException the json processing exception
    */
-  protected void updateMergedToStudent(final Event event, final Saga saga, final StudentMergeCompleteSagaData studentMergeCompleteSagaData) throws JsonProcessingException, InterruptedException {
-    final SagaEventStates eventStates = this.createEventState(saga, event.getEventType(), event.getEventOutcome(), event.getEventPayload());
-    final StudentSagaData studentDataFromEventResponse = JsonUtil.getJsonObjectFromString(StudentSagaData.class, event.getEventPayload());
+  protected void updateMergedToStudent(final Event event, final Saga saga, final StudentMergeCompleteSagaData studentMergeCompleteSagaData) throws JsonProcessingException {
     val getMergedFromPenEvent = JsonUtil.getJsonString(this.buildGetStudentByPenEvent(saga.getSagaId(), studentMergeCompleteSagaData.getMergedFromPen()));
     if (getMergedFromPenEvent.isPresent()) {
-      val mergedFromStudent = this.getMessagePublisher().requestMessage(STUDENT_API_TOPIC.toString(), getMergedFromPenEvent.get().getBytes());
-      if (mergedFromStudent.isPresent()) {
-        final Student mergedFromStudentFromStudentAPI = JsonUtil.getJsonObjectFromString(Student.class, mergedFromStudent.get());
-        this.updateMergeToStudentDemographics(studentMergeCompleteSagaData, studentDataFromEventResponse, mergedFromStudentFromStudentAPI);
-        this.processStudentUpdate(saga, studentMergeCompleteSagaData, eventStates, studentDataFromEventResponse);
-      } else {
-        log.error("Either NATS timed out or student from student api was returned null for PEN :: {}, saga ID :: {}", studentMergeCompleteSagaData.getMergedFromPen(), saga.getSagaId());
-      }
+      final UUID sagaId = saga.getSagaId();
+      final Integer stepNumber = saga.getStepNumber();
+      final Integer replayedStepNumber = saga.getReplayedStepNumber();
+      // the update is sent once the merged from student arrives, back on the stripe of the saga so it never races another event or a replay of it.
+      this.getMessagePublisher().requestMessageAsync(STUDENT_API_TOPIC.toString(), getMergedFromPenEvent.get().getBytes())
+          .thenAccept(mergedFromStudent -> this.getSagaEventExecutor().execute(sagaId, () -> this.updateMergedToStudent(sagaId, stepNumber, replayedStepNumber, event, mergedFromStudent)))
+          .exceptionally(e -> {
+            log.error("Unable to hand the merged from student over to the saga event executor, saga ID :: {} is left for the replay job", sagaId, e);
+            return null;
+          });
     } else {
       log.error("This should not have happened, saga ID :: {}", saga.getSagaId());
     }
 
   }
 
+  /**
+   * Update the merged to student with the merged from student returned by student api, the saga is read again as it may
+   * have moved on while the reply was pending. the read, the step check and the step write run in one transaction, so
+   * the step is recorded against the saga row that was checked, a failure rolls them back together. nothing is saved when the reply is missing or the saga moved on, so the
+   * saga stays at its last recorded step and the replay job sends the step again.
+   *
+   * @param sagaId             the saga id
+   * @param stepNumber         the step number of the saga when the merged from student was requested
+   * @param replayedStepNumber the step run again when the merged from student was requested by a replay, null otherwise
+   * @param event              the event carrying the merged to student
+   * @param mergedFromStudent  the merged from student json, empty if NATS timed out or student api returned nothing
+   */
+  private void updateMergedToStudent(final UUID sagaId, final Integer stepNumber, final Integer replayedStepNumber, final Event event, final Optional<String> mergedFromStudent) {
+    if (mergedFromStudent.isEmpty()) {
+      log.error("Either NATS timed out or student from student api was returned null for merged from PEN, saga ID :: {} is left for the replay job", sagaId);
+      return;
+    }
+    try {
+      this.getSagaTransaction().executeWithoutResult(status -> {
+        final var sagaOptional = this.getSagaService().findSagaById(sagaId);
+        if (sagaOptional.isEmpty() || COMPLETED.toString().equalsIgnoreCase(sagaOptional.get().getStatus()) || !Objects.equals(sagaOptional.get().getStepNumber(), stepNumber)) {
+          log.info("saga ID :: {} moved on while the merged from student was requested, not updating the merged to student", sagaId);
+          return;
+        }
+        final var saga = sagaOptional.get();
+        saga.setReplayedStepNumber(replayedStepNumber);
+        try {
+          final StudentMergeCompleteSagaData studentMergeCompleteSagaData = JsonUtil.getJsonObjectFromString(StudentMergeCompleteSagaData.class, saga.getPayload());
+          final SagaEventStates eventStates = this.createEventState(saga, event.getEventType(), event.getEventOutcome(), event.getEventPayload());
+          final StudentSagaData studentDataFromEventResponse = JsonUtil.getJsonObjectFromString(StudentSagaData.class, event.getEventPayload());
+          final Student mergedFromStudentFromStudentAPI = JsonUtil.getJsonObjectFromString(Student.class, mergedFromStudent.get());
+          this.updateMergeToStudentDemographics(studentMergeCompleteSagaData, studentDataFromEventResponse, mergedFromStudentFromStudentAPI);
+          this.processStudentUpdate(saga, studentMergeCompleteSagaData, eventStates, studentDataFromEventResponse);
+        } catch (final JsonProcessingException e) {
+          status.setRollbackOnly();
+          log.error("Exception while updating the merged to student, saga ID :: {} is left for the replay job", sagaId, e);
+        }
+      });
+    } catch (final RuntimeException e) {
+      log.error("Exception while updating the merged to student, saga ID :: {} is left for the replay job", sagaId, e);
+    }
+  }
+
   /**
    * -------------
    * 07 April 2021
@@ -244,9 +293,7 @@ public class StudentMergeCompleteOrchestrator extends BaseUserActionsOrchestrato
     final SagaEventStates eventStates = this.createEventState(saga, event.getEventType(), event.getEventOutcome(), event.getEventPayload());
     saga.setSagaState(CREATE_STUDENT_HISTORY.toString()); // set current event as saga state.
 
-    final ObjectMapper objectMapper = new ObjectMapper();
-    final JavaType type = objectMapper.getTypeFactory().constructCollectionType(List.class, StudentHistory.class);
-    final List<StudentHistory> historyList = objectMapper.readValue(event.getEventPayload(), type);
+    final List<StudentHistory> historyList = JsonUtil.getJsonListFromString(StudentHistory.class, event.getEventPayload());
     historyList.forEach(h -> {
       h.setStudentHistoryID(null);
       h.setStudentID(studentMergeCompleteSagaData.getStudentID());
@@ -298,10 +345,7 @@ public class StudentMergeCompleteOrchestrator extends BaseUserActionsOrchestrato
     final SagaEventStates eventStates = this.createEventState(saga, event.getEventType(), event.getEventOutcome(), event.getEventPayload());
     saga.setSagaState(DELETE_POSSIBLE_MATCH.toString()); // set current event as saga state.
 
-    final ObjectMapper objectMapper = new ObjectMapper();
-    final JavaType type = objectMapper.getTypeFactory().
-        constructCollectionType(List.class, PossibleMatch.class);
-    final List<PossibleMatch> allPossibleMatches = objectMapper.readValue(event.getEventPayload(), type);
+    final List<PossibleMatch> allPossibleMatches = JsonUtil.getJsonListFromString(PossibleMatch.class, event.getEventPayload());
     final List<PossibleMatch> possibleMatches = allPossibleMatches.stream()
         .filter(item -> item.getMatchedStudentID().equals(studentMergeCompleteSagaData.getMergeStudentID()))
         .collect(Collectors.toList());
@@ -4,20 +4,23 @@ import ca.bc.gov.educ.api.pen.services.constants.EventOutcome;
 import ca.bc.gov.educ.api.pen.services.constants.EventType;
 import ca.bc.gov.educ.api.pen.services.messaging.MessagePublisher;
 import ca.bc.gov.educ.api.pen.services.model.Saga;
+import ca.bc.gov.educ.api.pen.services.model.SagaEventStateSummary;
 import ca.bc.gov.educ.api.pen.services.model.SagaEventStates;
 import ca.bc.gov.educ.api.pen.services.service.SagaService;
 import ca.bc.gov.educ.api.pen.services.struct.v1.Event;
 import ca.bc.gov.educ.api.pen.services.struct.v1.NotificationEvent;
 import ca.bc.gov.educ.api.pen.services.util.JsonUtil;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.util.Pair;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.validation.constraints.NotNull;
 import java.io.IOException;
@@ -67,6 +70,17 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
    */
   @Getter(PROTECTED)
   private final MessagePublisher messagePublisher;
+  /**
+   * The Saga event executor, running the work of a saga on its stripe so it never runs concurrently with another event of the saga.
+   */
+  @Getter(PROTECTED)
+  private final StripedExecutor sagaEventExecutor;
+  /**
+   * The Saga transaction, the work a saga runs on its stripe goes through this template, a stripe task is not called
+   * through the proxy of the orchestrator so a {@link Transactional} method would not start a transaction there.
+   */
+  @Getter(PROTECTED)
+  private final TransactionTemplate sagaTransaction;
   /**
    * The Saga name.
    */
@@ -86,17 +100,22 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
   /**
    * Instantiates a new Base orchestrator.
    *
-   * @param sagaService      the saga service
-   * @param messagePublisher the message publisher
-   * @param clazz            the clazz
-   * @param sagaName         the saga name
-   * @param topicToSubscribe the topic to subscribe
+   * @param sagaService       the saga service
+   * @param messagePublisher  the message publisher
+   * @param sagaEventExecutor the saga event executor
+   * @param transactionManager the transaction manager
+   * @param clazz             the clazz
+   * @param sagaName          the saga name
+   * @param topicToSubscribe  the topic to subscribe
    */
-  protected BaseOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher,
-                             final Class<T> clazz, final String sagaName,
+  protected BaseOrchestrator(final SagaService sagaService, final MessagePublisher messagePublisher, final StripedExecutor sagaEventExecutor,
+                             final PlatformTransactionManager transactionManager, final Class<T> clazz, final String sagaName,
                              final String topicToSubscribe) {
     this.sagaService = sagaService;
     this.messagePublisher = messagePublisher;
+    this.sagaEventExecutor = sagaEventExecutor;
+    this.sagaTransaction = new TransactionTemplate(transactionManager);
+    this.sagaTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     this.clazz = clazz;
     this.sagaName = sagaName;
     this.topicToSubscribe = topicToSubscribe;
@@ -330,14 +349,17 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
   }
 
   /**
-   * calculate step number
+   * calculate step number, the one after the step persisted on the saga with its last event state. a replay runs the
+   * last event state again at its own step, which the saga service does not write twice.
    *
    * @param saga the model object.
    * @return step number that was calculated.
    */
   private int calculateStep(final Saga saga) {
-    val sagaStates = this.getSagaService().findAllSagaStates(saga);
-    return (sagaStates.size() + 1);
+    if (saga.getReplayedStepNumber() != null) {
+      return saga.getReplayedStepNumber();
+    }
+    return (saga.getStepNumber() == null ? 0 : saga.getStepNumber()) + 1;
   }
 
   /**
@@ -355,19 +377,9 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
     }
   }
 
-  /**
-   * it finds the last event that was processed successfully for this saga.
-   *
-   * @param eventStates event states corresponding to the Saga.
-   * @return {@link SagaEventStates} if found else null.
-   */
-  protected Optional<SagaEventStates> findTheLastEventOccurred(final List<SagaEventStates> eventStates) {
-    final int step = eventStates.stream().map(SagaEventStates::getSagaStepNumber).mapToInt(x -> x).max().orElse(0);
-    return eventStates.stream().filter(element -> element.getSagaStepNumber() == step).findFirst();
-  }
-
   /**
    * this method is called from the cron job , which will replay the saga process based on its current state.
+   * the job runs it on the stripe of the saga event executor, so it never runs concurrently with an event of the same saga.
    *
    * @param saga the model object.
    * @throws IOException          if there is connectivity problem
@@ -376,40 +388,41 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
    */
   @Override
   @Transactional
-  @Async("taskExecutor")
   public void replaySaga(final Saga saga) throws IOException, InterruptedException, TimeoutException {
-    final var eventStates = this.getSagaService().findAllSagaStates(saga);
+    final var lastEventState = this.getSagaService().findLastSagaState(saga);
     final var t = JsonUtil.getJsonObjectFromString(this.clazz, saga.getPayload());
-    if (eventStates.isEmpty()) { //process did not start last time, lets start from beginning.
+    if (lastEventState.isEmpty()) { //process did not start last time, lets start from beginning.
       this.replayFromBeginning(saga, t);
     } else {
-      this.replayFromLastEvent(saga, eventStates, t);
+      this.replayFromLastEvent(saga, lastEventState.get(), t);
     }
   }
 
   /**
    * This method will restart the saga process from where it was left the last time. which could occur due to various reasons
+   * the event response of the last event state is read only when there is a next step to run with it.
    *
-   * @param saga        the model object.
-   * @param eventStates the event states corresponding to the saga
-   * @param t           the payload string as an object
+   * @param saga           the model object.
+   * @param lastEventState the event state with the highest step of the saga
+   * @param t              the payload string as an object
    * @throws InterruptedException if thread is interrupted.
    * @throws TimeoutException     if connection to messaging system times out.
    * @throws IOException          if there is connectivity problem
    */
-  private void replayFromLastEvent(final Saga saga, final List<SagaEventStates> eventStates, final T t) throws InterruptedException, TimeoutException, IOException {
-    val sagaEventOptional = this.findTheLastEventOccurred(eventStates);
-    if (sagaEventOptional.isPresent()) {
-      val sagaEvent = sagaEventOptional.get();
-      log.trace(sagaEventOptional.toString());
-      final EventType currentEvent = EventType.valueOf(sagaEvent.getSagaEventState());
-      final EventOutcome eventOutcome = EventOutcome.valueOf(sagaEvent.getSagaEventOutcome());
+  private void replayFromLastEvent(final Saga saga, final SagaEventStateSummary lastEventState, final T t) throws InterruptedException, TimeoutException, IOException {
+    log.trace("last event state of saga {} is {} :: {} at step {}", saga.getSagaId(), lastEventState.getSagaEventState(), lastEventState.getSagaEventOutcome(), lastEventState.getSagaStepNumber());
+    final EventType currentEvent = EventType.valueOf(lastEventState.getSagaEventState());
+    final EventOutcome eventOutcome = EventOutcome.valueOf(lastEventState.getSagaEventOutcome());
+    final Optional<SagaEventState<T>> sagaEventState = this.findNextSagaEventState(currentEvent, eventOutcome, t);
+    if (sagaEventState.isPresent()) {
+      saga.setReplayedStepNumber(lastEventState.getSagaStepNumber());
       final Event event = Event.builder()
           .eventOutcome(eventOutcome)
           .eventType(currentEvent)
-          .eventPayload(sagaEvent.getSagaEventResponse())
+          .eventPayload(this.getSagaService().findSagaEventResponse(lastEventState.getSagaEventId()))
           .build();
-      this.findAndInvokeNextStep(saga, t, currentEvent, eventOutcome, event);
+      log.trace(SYSTEM_IS_GOING_TO_EXECUTE_NEXT_EVENT_FOR_CURRENT_EVENT, sagaEventState.get().getNextEventType(), event.toString(), saga.getSagaId());
+      this.invokeNextEvent(event, saga, t, sagaEventState.get());
     }
   }
 
@@ -452,6 +465,7 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
 
   /**
    * this method is called if there is a new message on this specific topic which this service is listening.
+   * the subscriber runs it on the stripe of the saga event executor, so the events of a saga are handled one after the other.
    *
    * @param event the event
    * @throws InterruptedException if thread is interrupted.
@@ -459,7 +473,6 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
    * @throws TimeoutException     if connection to messaging system times out.
    */
   @Override
-  @Async("subscriberExecutor")
   @Transactional
   public void handleEvent(@NotNull final Event event) throws InterruptedException, IOException, TimeoutException {
     log.info("executing saga event {}", event);
@@ -490,27 +503,37 @@ public abstract class BaseOrchestrator<T> implements EventHandler, Orchestrator
   }
 
   /**
-   * Start to execute saga
+   * Start to execute saga, on the saga event executor keyed by the saga id so the start never runs alongside the
+   * events or the replay of the same saga.
    *
    * @param saga the saga data
    */
   @Override
-  @Async("subscriberExecutor")
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void startSaga(@NotNull final Saga saga) {
-    try {
-      this.handleEvent(Event.builder()
-        .eventType(EventType.INITIATED)
-        .eventOutcome(EventOutcome.INITIATE_SUCCESS)
-        .sagaId(saga.getSagaId())
-        .eventPayload(saga.getPayload())
-        .build());
-    } catch (InterruptedException e) {
-      log.error("InterruptedException while startSaga", e);
-      Thread.currentThread().interrupt();
-    } catch (TimeoutException | IOException e) {
-      log.error("Exception while startSaga", e);
-    }
+    this.getSagaEventExecutor().execute(saga.getSagaId(), () -> this.runSagaStart(saga));
+  }
+
+  /**
+   * Run the initiated event of the saga, on the stripe of its id and in its own transaction.
+   *
+   * @param saga the saga
+   */
+  private void runSagaStart(final Saga saga) {
+    this.getSagaTransaction().executeWithoutResult(status -> {
+      try {
+        this.handleEvent(Event.builder()
+          .eventType(EventType.INITIATED)
+          .eventOutcome(EventOutcome.INITIATE_SUCCESS)
+          .sagaId(saga.getSagaId())
+          .eventPayload(saga.getPayload())
+          .build());
+      } catch (InterruptedException e) {
+        log.error("InterruptedException while startSaga", e);
+        Thread.currentThread().interrupt();
+      } catch (TimeoutException | IOException e) {
+        log.error("Exception while startSaga", e);
+      }
+    });
   }
 
   /**
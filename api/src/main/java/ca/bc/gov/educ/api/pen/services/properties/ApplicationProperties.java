@@ -56,6 +56,51 @@ public class ApplicationProperties {
    */
   @Value("${nats.connectionName}")
   private String connectionName;
+  /**
+   * The number of dispatchers subscribed to PEN_SERVICES_API_TOPIC.
+   */
+  @Value("${nats.apiTopicDispatchers}")
+  private int apiTopicDispatchers;
+  /**
+   * The number of dispatchers subscribed to each saga topic.
+   */
+  @Value("${nats.sagaTopicDispatchers}")
+  private int sagaTopicDispatchers;
+  /**
+   * The threads of the validation event lane.
+   */
+  @Value("${nats.lanes.validation.threads}")
+  private int validationLaneThreads;
+  /**
+   * The threads of the pen allocation event lane.
+   */
+  @Value("${nats.lanes.penAllocation.threads}")
+  private int penAllocationLaneThreads;
+  /**
+   * The threads of the merge event lane.
+   */
+  @Value("${nats.lanes.merge.threads}")
+  private int mergeLaneThreads;
+  /**
+   * The threads of the event lane of every other event.
+   */
+  @Value("${nats.lanes.other.threads}")
+  private int otherLaneThreads;
+  /**
+   * The queue size of each event lane.
+   */
+  @Value("${nats.lanes.queueSize}")
+  private int laneQueueSize;
+  /**
+   * The threads completing the asynchronous NATS requests.
+   */
+  @Value("${nats.reply.threads}")
+  private int replyThreads;
+  /**
+   * The queue size of the threads completing the asynchronous NATS requests.
+   */
+  @Value("${nats.reply.queueSize}")
+  private int replyQueueSize;
 
   @Value("${ramp.up.http}")
   private Boolean isHttpRampUp;
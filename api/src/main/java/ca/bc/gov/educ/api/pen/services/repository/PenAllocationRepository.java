@@ -0,0 +1,30 @@
+package ca.bc.gov.educ.api.pen.services.repository;
+
+import ca.bc.gov.educ.api.pen.services.model.PenAllocationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * The interface Pen allocation repository.
+ */
+@Repository
+public interface PenAllocationRepository extends JpaRepository<PenAllocationEntity, String> {
+
+  /**
+   * Raise the high water mark of an allocation counter, it is never lowered.
+   *
+   * @param allocationName the allocation name
+   * @param highWaterMark  the last PEN leased
+   * @param updateDate     the update date
+   * @return the number of rows updated, 0 when the mark is already as high or the row does not exist
+   */
+  @Transactional
+  @Modifying
+  @Query("update PenAllocationEntity a set a.highWaterMark = :highWaterMark, a.updateDate = :updateDate where a.allocationName = :allocationName and a.highWaterMark < :highWaterMark")
+  int raiseHighWaterMark(String allocationName, long highWaterMark, LocalDateTime updateDate);
+}
@@ -1,9 +1,11 @@
 package ca.bc.gov.educ.api.pen.services.repository;
 
 import ca.bc.gov.educ.api.pen.services.model.PENNameText;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -13,4 +15,31 @@ import java.util.List;
 public interface PenNameTextRepository extends CrudRepository<PENNameText, Integer> {
   @Override
   List<PENNameText> findAll();
+
+  /**
+   * Find the watermark of the table, a cheap query used to detect whether the table changed since the last load.
+   *
+   * @return the pen name text watermark
+   */
+  @Query("select max(p.updateDate) as maxUpdateDate, count(p) as recordCount from PENNameText p")
+  PenNameTextWatermark findWatermark();
+
+  /**
+   * The watermark of PEN_NAME_TEXT, the latest update date and the number of records.
+   */
+  interface PenNameTextWatermark {
+    /**
+     * Gets max update date.
+     *
+     * @return the max update date, null when the table is empty
+     */
+    LocalDateTime getMaxUpdateDate();
+
+    /**
+     * Gets record count.
+     *
+     * @return the record count
+     */
+    Long getRecordCount();
+  }
 }
@@ -1,10 +1,11 @@
 package ca.bc.gov.educ.api.pen.services.repository;
 
 import ca.bc.gov.educ.api.pen.services.model.Saga;
+import ca.bc.gov.educ.api.pen.services.model.SagaEventStateSummary;
 import ca.bc.gov.educ.api.pen.services.model.SagaEventStates;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,7 +18,7 @@ import java.util.UUID;
  * The interface Saga event repository.
  */
 @Repository
-public interface SagaEventRepository extends CrudRepository<SagaEventStates, UUID> {
+public interface SagaEventRepository extends JpaRepository<SagaEventStates, UUID> {
   /**
    * Find by saga list.
    *
@@ -27,15 +28,21 @@ public interface SagaEventRepository extends CrudRepository<SagaEventStates, UUI
   List<SagaEventStates> findBySaga(Saga saga);
 
   /**
-   * Find by saga and saga event outcome and saga event state and saga step number optional.
+   * Find the event state with the highest step of the saga, without its event response.
    *
-   * @param saga         the saga
-   * @param eventOutcome the event outcome
-   * @param eventState   the event state
-   * @param stepNumber   the step number
+   * @param saga the saga
    * @return the optional
    */
-  Optional<SagaEventStates> findBySagaAndSagaEventOutcomeAndSagaEventStateAndSagaStepNumber(Saga saga, String eventOutcome, String eventState, int stepNumber);
+  Optional<SagaEventStateSummary> findFirstBySagaOrderBySagaStepNumberDesc(Saga saga);
+
+  /**
+   * Find the event response of an event state.
+   *
+   * @param sagaEventId the saga event id
+   * @return the event response bytes
+   */
+  @Query("select e.sagaEventResponseBytes from SagaEventStates e where e.sagaEventId = :sagaEventId")
+  byte[] findSagaEventResponseBytesBySagaEventId(UUID sagaEventId);
 
   @Transactional
   @Modifying
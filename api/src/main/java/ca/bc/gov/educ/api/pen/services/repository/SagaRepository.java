@@ -1,6 +1,7 @@
 package ca.bc.gov.educ.api.pen.services.repository;
 
 import ca.bc.gov.educ.api.pen.services.model.Saga;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -60,6 +62,42 @@ public interface SagaRepository extends JpaRepository<Saga, UUID> {
    */
   List<Saga> findAllByCreateDateBefore(LocalDateTime createDate);
 
+  /**
+   * Find the ids of the first page of sagas to replay, ordered by id, only the ids are read so the payloads stay in the database.
+   *
+   * @param statuses   the statuses
+   * @param sagaNames  the saga names
+   * @param createDate the sagas created before this date
+   * @param pageable   the page size
+   * @return the list of saga ids
+   */
+  @Query("select s.sagaId from Saga s where s.status in :statuses and s.sagaName in :sagaNames and s.createDate < :createDate order by s.sagaId")
+  List<UUID> findSagaIdsToReplay(List<String> statuses, Collection<String> sagaNames, LocalDateTime createDate, Pageable pageable);
+
+  /**
+   * Find the ids of the next page of sagas to replay, the page after the given saga id.
+   *
+   * @param statuses   the statuses
+   * @param sagaNames  the saga names
+   * @param createDate the sagas created before this date
+   * @param lastSagaId the last saga id of the previous page
+   * @param pageable   the page size
+   * @return the list of saga ids
+   */
+  @Query("select s.sagaId from Saga s where s.status in :statuses and s.sagaName in :sagaNames and s.createDate < :createDate and s.sagaId > :lastSagaId order by s.sagaId")
+  List<UUID> findSagaIdsToReplayAfter(List<String> statuses, Collection<String> sagaNames, LocalDateTime createDate, UUID lastSagaId, Pageable pageable);
+
+  /**
+   * Increment the retry count of the sagas in one statement.
+   *
+   * @param sagaIds the saga ids
+   * @return the number of sagas updated
+   */
+  @Transactional
+  @Modifying
+  @Query("update Saga s set s.retryCount = coalesce(s.retryCount, 0) + 1 where s.sagaId in :sagaIds")
+  int incrementRetryCount(List<UUID> sagaIds);
+
   @Transactional
   @Modifying
   @Query("delete from Saga where createDate <= :createDate")
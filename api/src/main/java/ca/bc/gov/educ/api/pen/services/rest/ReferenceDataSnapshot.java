@@ -0,0 +1,67 @@
+package ca.bc.gov.educ.api.pen.services.rest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.Supplier;
+
+/**
+ * Holder of an immutable snapshot of one reference data set loaded from another API.
+ * a refresh builds the new snapshot off to the side and publishes it with a single volatile write, so readers never
+ * see a partially loaded or cleared set. when the load fails the previous snapshot is retained.
+ *
+ * @param <T> the type of the snapshot, expected to be immutable
+ */
+@Slf4j
+public class ReferenceDataSnapshot<T> {
+
+  /**
+   * The name of the reference data set, used for logging.
+   */
+  private final String name;
+
+  /**
+   * The current snapshot.
+   */
+  private volatile T snapshot;
+
+  /**
+   * Instantiates a new Reference data snapshot.
+   *
+   * @param name    the name of the reference data set
+   * @param initial the snapshot used until the first successful load
+   */
+  public ReferenceDataSnapshot(final String name, final T initial) {
+    this.name = name;
+    this.snapshot = initial;
+  }
+
+  /**
+   * Gets the current snapshot.
+   *
+   * @return the snapshot
+   */
+  public T get() {
+    return this.snapshot;
+  }
+
+  /**
+   * Load a new snapshot and publish it. the exception of a failed load is rethrown after logging, so callers can retry,
+   * while readers keep using the previous snapshot.
+   *
+   * @param loader the loader of the new snapshot, a null result is treated as a failed load
+   * @return the new snapshot
+   */
+  public T refresh(final Supplier<T> loader) {
+    try {
+      final T loaded = loader.get();
+      if (loaded == null) {
+        throw new IllegalStateException("No " + this.name + " were returned.");
+      }
+      this.snapshot = loaded;
+      return loaded;
+    } catch (final RuntimeException e) {
+      log.error("Unable to reload {}, retaining the previous snapshot.", this.name, e);
+      throw e;
+    }
+  }
+}
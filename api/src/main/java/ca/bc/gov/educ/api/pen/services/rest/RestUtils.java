@@ -5,10 +5,14 @@ import ca.bc.gov.educ.api.pen.services.struct.*;
 import ca.bc.gov.educ.api.pen.services.struct.v1.GenderCode;
 import ca.bc.gov.educ.api.pen.services.struct.v1.GradeCode;
 import ca.bc.gov.educ.api.pen.services.struct.v1.SchoolTombstone;
+import ca.bc.gov.educ.api.pen.services.util.JsonUtil;
+import ca.bc.gov.educ.api.pen.services.util.ThreadFactoryBuilder;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.jboss.threads.EnhancedQueueExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
@@ -20,10 +24,13 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The type Rest utils.
@@ -44,25 +51,58 @@ public class RestUtils {
    */
   public static final String CONTENT_TYPE = "Content-Type";
   /**
-   * The Gender codes map.
+   * The age after which the schools are refreshed in the background, on top of the nightly reload.
    */
-  private final Map<String, List<GenderCode>> genderCodesMap = new ConcurrentHashMap<>();
+  private static final Duration SCHOOLS_MAX_AGE = Duration.ofHours(25);
   /**
-   * The Grade codes map.
+   * How long a school fetched one by one is remembered, so a mincode the institute api did not know is asked again.
    */
-  private final Map<String, List<GradeCode>> gradeCodesMap = new ConcurrentHashMap<>();
+  private static final Duration SCHOOLS_FALLBACK_EXPIRY = Duration.ofMinutes(15);
   /**
-   * The Gender lock.
+   * The maximum number of schools fetched one by one which are remembered.
    */
-  private final ReadWriteLock genderLock = new ReentrantReadWriteLock();
+  private static final long SCHOOLS_FALLBACK_MAX_SIZE = 5_000;
   /**
-   * The Grade lock.
+   * The Gender codes.
    */
-  private final ReadWriteLock gradeLock = new ReentrantReadWriteLock();
+  private final ReferenceDataSnapshot<List<GenderCode>> genderCodes = new ReferenceDataSnapshot<>(GENDER_CODES, Collections.emptyList());
   /**
-   * The School lock
+   * The Grade codes.
    */
-  private final ReadWriteLock schoolLock = new ReentrantReadWriteLock();
+  private final ReferenceDataSnapshot<List<GradeCode>> gradeCodes = new ReferenceDataSnapshot<>(GRADE_CODES, Collections.emptyList());
+  /**
+   * The schools by mincode.
+   */
+  private final ReferenceDataSnapshot<Map<String, SchoolTombstone>> schools = new ReferenceDataSnapshot<>("schools", Collections.emptyMap());
+  /**
+   * When the schools were last loaded, the schools are refreshed in the background once they are older than {@link #SCHOOLS_MAX_AGE}.
+   */
+  private volatile Instant schoolsLoadedAt = Instant.EPOCH;
+  /**
+   * Whether a background refresh of the schools is in progress.
+   */
+  private final AtomicBoolean schoolsRefreshInProgress = new AtomicBoolean();
+  /**
+   * The schools fetched one by one because they were missing from the snapshot, empty when the institute api does not know the mincode.
+   * bounded and expiring, as mincodes come from the requests, and cleared whenever a new snapshot is loaded.
+   */
+  private final Cache<String, Optional<SchoolTombstone>> schoolsByMincodeFallback = CacheBuilder.newBuilder()
+      .maximumSize(SCHOOLS_FALLBACK_MAX_SIZE)
+      .expireAfterWrite(SCHOOLS_FALLBACK_EXPIRY)
+      .build();
+  /**
+   * The in flight fetches by mincode, so concurrent requests for the same missing mincode share one api call.
+   */
+  private final Map<String, CompletableFuture<Optional<SchoolTombstone>>> schoolFetchesInFlight = new ConcurrentHashMap<>();
+  /**
+   * The executor refreshing the schools in the background, a single refresh runs at a time.
+   */
+  private final EnhancedQueueExecutor schoolRefreshExecutor = new EnhancedQueueExecutor.Builder().setThreadFactory(new ThreadFactoryBuilder().withNameFormat("school-refresh-%d").withDaemon(true).get())
+      .setCorePoolSize(1)
+      .setMaximumPoolSize(1)
+      .setKeepAliveTime(Duration.ofSeconds(60))
+      .setMaximumQueueSize(1)
+      .build();
   /**
    * The Props.
    */
@@ -73,8 +113,6 @@ public class RestUtils {
    */
   private final WebClient webClient;
 
-  private final Map<String, SchoolTombstone> schoolMap = new ConcurrentHashMap<>();
-
   /**
    * Instantiates a new Rest utils.
    *
@@ -94,43 +132,139 @@ public class RestUtils {
   public void init() {
     if (this.props.getIsHttpRampUp() != null && this.props.getIsHttpRampUp()) {
       this.setGenderCodesMap();
-      log.info("Called student api and loaded {} gender codes", this.genderCodesMap.values().size());
+      log.info("Called student api and loaded {} gender codes", this.genderCodes.get().size());
       this.setGradeCodesMap();
-      log.info("Called student api and loaded {} grade codes", this.gradeCodesMap.values().size());
+      log.info("Called student api and loaded {} grade codes", this.gradeCodes.get().size());
       this.populateSchoolMap();
     }
   }
 
   /**
-   * Gets school by min code.
+   * Gets school by min code. the schools are served from the in memory snapshot, which is refreshed in the background when
+   * empty or stale while the previous one keeps being served. a mincode missing from the snapshot is fetched on its own,
+   * with concurrent requests for the same mincode sharing a single call.
    *
    * @param mincode the mincode
    * @return the school by min code
    */
   public Optional<SchoolTombstone> getSchoolByMincode(final String mincode) {
-    if (this.schoolMap.isEmpty()) {
-      log.info("School map is empty reloading schools");
-      this.populateSchoolMap();
+    final var schoolMap = this.schools.get();
+    if (schoolMap.isEmpty() || this.schoolsLoadedAt.plus(SCHOOLS_MAX_AGE).isBefore(Instant.now())) {
+      this.refreshSchoolsInBackground();
     }
-    return Optional.ofNullable(this.schoolMap.get(mincode));
+    final var school = schoolMap.get(mincode);
+    if (school != null || mincode == null) {
+      return Optional.ofNullable(school);
+    }
+    final var fallback = this.schoolsByMincodeFallback.getIfPresent(mincode);
+    if (fallback != null) {
+      return fallback;
+    }
+    return this.fetchSchoolByMincode(mincode);
   }
 
   /**
-   * Populate school map.
+   * Fetch a single school, single flight per mincode. a failed call is not remembered, so the next request tries again.
+   *
+   * @param mincode the mincode
+   * @return the school
    */
-  public void populateSchoolMap() {
-    val writeLock = this.schoolLock.writeLock();
+  private Optional<SchoolTombstone> fetchSchoolByMincode(final String mincode) {
+    final var ownFetch = new CompletableFuture<Optional<SchoolTombstone>>();
+    final var inFlight = this.schoolFetchesInFlight.putIfAbsent(mincode, ownFetch);
+    if (inFlight != null) {
+      return inFlight.join();
+    }
     try {
-      writeLock.lock();
-      for (val school : this.getSchools()) {
-        this.schoolMap.putIfAbsent(school.getMincode(), school);
+      // a fetch which finished between the caller's cache lookup and here already remembered the school.
+      final var remembered = this.schoolsByMincodeFallback.getIfPresent(mincode);
+      if (remembered != null) {
+        ownFetch.complete(remembered);
+        return remembered;
       }
-    } catch (Exception ex) {
-      log.error("Unable to load map cache school {}", ex);
+      final var school = this.getSchoolFromInstituteAPI(mincode);
+      this.schoolsByMincodeFallback.put(mincode, school);
+      ownFetch.complete(school);
+      return school;
+    } catch (final Exception e) {
+      log.error("Unable to fetch school for mincode :: {}", mincode, e);
+      ownFetch.complete(Optional.empty());
+      return Optional.empty();
     } finally {
-      writeLock.unlock();
+      this.schoolFetchesInFlight.remove(mincode, ownFetch);
+    }
+  }
+
+  /**
+   * Refresh the schools in the background, unless a refresh is already running.
+   */
+  public void refreshSchoolsInBackground() {
+    if (this.schoolsRefreshInProgress.compareAndSet(false, true)) {
+      log.info("Refreshing schools in the background");
+      this.schoolRefreshExecutor.execute(() -> {
+        try {
+          this.populateSchoolMap();
+        } finally {
+          this.schoolsRefreshInProgress.set(false);
+        }
+      });
+    }
+  }
+
+  /**
+   * Populate school map, replacing the previous schools as a whole so closed or renamed schools are updated.
+   * the previous schools are retained when the institute api call fails.
+   */
+  public synchronized void populateSchoolMap() {
+    try {
+      this.schools.refresh(() -> {
+        final Map<String, SchoolTombstone> schoolMap = new HashMap<>();
+        for (val school : this.getSchools()) {
+          // prefer the open school when a mincode is returned more than once.
+          schoolMap.merge(school.getMincode(), school, (existing, replacement) -> existing.getClosedDate() == null ? existing : replacement);
+        }
+        return Collections.unmodifiableMap(schoolMap);
+      });
+      this.schoolsLoadedAt = Instant.now();
+      this.schoolsByMincodeFallback.invalidateAll();
+    } catch (Exception ex) {
+      // already logged by the snapshot, the previous schools keep being served.
     }
-    log.info("loaded  {} schools to memory", this.schoolMap.values().size());
+    log.info("loaded  {} schools to memory", this.schools.get().size());
+  }
+
+  /**
+   * Gets a single school from the institute api.
+   *
+   * @param mincode the mincode
+   * @return the school, empty when the institute api does not know the mincode
+   * @throws JsonProcessingException the json processing exception
+   */
+  public Optional<SchoolTombstone> getSchoolFromInstituteAPI(final String mincode) throws JsonProcessingException {
+    final SearchCriteria criteria = SearchCriteria.builder().key("mincode").operation(FilterOperation.EQUAL).value(mincode).valueType(ValueType.STRING).build();
+    final List<Search> searches = new LinkedList<>();
+    searches.add(Search.builder().searchCriteriaList(List.of(criteria)).build());
+    final var criteriaJSON = JsonUtil.getJsonStringFromObject(searches);
+    final var url = UriComponentsBuilder.fromHttpUrl(this.props.getInstituteApiURL() + "/school/paginated")
+      .queryParam("searchCriteriaList", criteriaJSON)
+      .queryParam("pageSize", 1)
+      .toUriString();
+    log.info("Calling Institute api to load school for mincode :: {}", mincode);
+    final ParameterizedTypeReference<RestPageImpl<SchoolTombstone>> responseType = new ParameterizedTypeReference<>() {
+    };
+    final var schoolResponse = this.webClient.get()
+      .uri(url)
+      .header(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+      .retrieve().bodyToMono(responseType).block();
+    return Objects.requireNonNull(schoolResponse).getContent().stream().findFirst();
+  }
+
+  /**
+   * Shutdown the school refresh executor.
+   */
+  @PreDestroy
+  public void close() {
+    this.schoolRefreshExecutor.shutdownNow();
   }
 
   public List<SchoolTombstone> getSchools() {
@@ -150,7 +284,7 @@ public class RestUtils {
    * @return the gender codes from student api
    */
   public List<GenderCode> getGenderCodes() {
-    return this.genderCodesMap.get(GENDER_CODES);
+    return this.genderCodes.get();
   }
 
   /**
@@ -159,7 +293,7 @@ public class RestUtils {
    * @return the grade codes
    */
   public List<GradeCode> getGradeCodes() {
-      return this.gradeCodesMap.get(GRADE_CODES);
+    return this.gradeCodes.get();
   }
 
   /**
@@ -176,35 +310,25 @@ public class RestUtils {
   }
 
   /**
-   * Sets gender codes map.
+   * Sets gender codes map, the new codes are published only once fully loaded, the previous codes are retained when the call fails.
    */
   public void setGenderCodesMap() {
-    val writeLock = this.genderLock.writeLock();
-    try {
-      writeLock.lock();
-      this.genderCodesMap.clear();
-      final List<GenderCode> genderCodes = this.webClient.get().uri(this.props.getStudentApiURL(), uri -> uri.path("/gender-codes").build())
+    this.genderCodes.refresh(() -> {
+      final List<GenderCode> genderCodeList = this.webClient.get().uri(this.props.getStudentApiURL(), uri -> uri.path("/gender-codes").build())
         .header(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).retrieve().bodyToFlux(GenderCode.class).collectList().block();
-      this.genderCodesMap.put(GENDER_CODES, genderCodes);
-    } finally {
-      writeLock.unlock();
-    }
+      return genderCodeList == null ? null : List.copyOf(genderCodeList);
+    });
   }
 
 
   /**
-   * Sets grade codes map.
+   * Sets grade codes map, the new codes are published only once fully loaded, the previous codes are retained when the call fails.
    */
   public void setGradeCodesMap() {
-    val writeLock = this.gradeLock.writeLock();
-    try {
-      writeLock.lock();
-      this.gradeCodesMap.clear();
-      final List<GradeCode> gradeCodes = this.webClient.get().uri(this.props.getStudentApiURL(), uri -> uri.path("/grade-codes").build()).header(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).retrieve().bodyToFlux(GradeCode.class).collectList().block();
-      this.gradeCodesMap.put(GRADE_CODES, gradeCodes);
-    } finally {
-      writeLock.unlock();
-    }
+    this.gradeCodes.refresh(() -> {
+      final List<GradeCode> gradeCodeList = this.webClient.get().uri(this.props.getStudentApiURL(), uri -> uri.path("/grade-codes").build()).header(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).retrieve().bodyToFlux(GradeCode.class).collectList().block();
+      return gradeCodeList == null ? null : List.copyOf(gradeCodeList);
+    });
   }
 
   /**
@@ -221,8 +345,7 @@ public class RestUtils {
     criteriaList.add(criteria);
     final List<Search> searches = new LinkedList<>();
     searches.add(Search.builder().searchCriteriaList(criteriaList).build());
-    val objectMapper = new ObjectMapper();
-    val criteriaJSON = objectMapper.writeValueAsString(searches);
+    val criteriaJSON = JsonUtil.getJsonStringFromObject(searches);
     final UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(this.props.getStudentApiURL() + "/paginated")
       .queryParam("searchCriteriaList", criteriaJSON)
       .queryParam("pageSize", 1)
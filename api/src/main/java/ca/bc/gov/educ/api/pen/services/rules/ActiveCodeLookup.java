@@ -0,0 +1,137 @@
+package ca.bc.gov.educ.api.pen.services.rules;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Lookup of the codes of a reference data list which are active right now, a code being active when the current time is
+ * strictly between its effective and expiry dates.
+ * the active codes are materialised once into a set keyed by the upper cased code, and only rebuilt when a new list
+ * is published or when the next effective or expiry date of any code has passed, so a lookup is a single hash probe.
+ *
+ * @param <T> the type of the code
+ */
+public class ActiveCodeLookup<T> {
+
+  /**
+   * The code of an element.
+   */
+  private final Function<T, String> codeExtractor;
+  /**
+   * The effective date of an element.
+   */
+  private final Function<T, LocalDateTime> effectiveDateExtractor;
+  /**
+   * The expiry date of an element.
+   */
+  private final Function<T, LocalDateTime> expiryDateExtractor;
+  /**
+   * The current index, replaced as a whole.
+   */
+  private volatile Index<T> index;
+
+  /**
+   * Instantiates a new Active code lookup.
+   *
+   * @param codeExtractor          the code extractor
+   * @param effectiveDateExtractor the effective date extractor
+   * @param expiryDateExtractor    the expiry date extractor
+   */
+  public ActiveCodeLookup(final Function<T, String> codeExtractor, final Function<T, LocalDateTime> effectiveDateExtractor, final Function<T, LocalDateTime> expiryDateExtractor) {
+    this.codeExtractor = codeExtractor;
+    this.effectiveDateExtractor = effectiveDateExtractor;
+    this.expiryDateExtractor = expiryDateExtractor;
+  }
+
+  /**
+   * Is the code active now, compared ignoring case.
+   *
+   * @param codes the current code list, the index is rebuilt when a different list is passed
+   * @param code  the code, already trimmed
+   * @return the boolean
+   */
+  public boolean isActive(final List<T> codes, final String code) {
+    return this.getIndex(codes, LocalDateTime.now()).activeCodes.contains(code.toUpperCase(Locale.ROOT));
+  }
+
+  /**
+   * Gets the index valid for the list at the given time, building a new one if needed.
+   * concurrent callers may build the same index twice, which is harmless as it is immutable.
+   *
+   * @param codes the codes
+   * @param now   the now
+   * @return the index
+   */
+  Index<T> getIndex(final List<T> codes, final LocalDateTime now) {
+    final var current = this.index;
+    if (current != null && current.source == codes && current.isValidAt(now)) {
+      return current;
+    }
+    final var rebuilt = this.build(codes, now);
+    this.index = rebuilt;
+    return rebuilt;
+  }
+
+  private Index<T> build(final List<T> codes, final LocalDateTime now) {
+    final Set<String> activeCodes = new HashSet<>();
+    LocalDateTime nextEffectiveDate = LocalDateTime.MAX;
+    LocalDateTime nextExpiryDate = LocalDateTime.MAX;
+    if (codes != null) {
+      for (final T element : codes) {
+        final var code = this.codeExtractor.apply(element);
+        final var effectiveDate = this.effectiveDateExtractor.apply(element);
+        final var expiryDate = this.expiryDateExtractor.apply(element);
+        if (code == null || effectiveDate == null || expiryDate == null) {
+          continue;
+        }
+        if (now.isAfter(effectiveDate) && now.isBefore(expiryDate)) {
+          activeCodes.add(code.toUpperCase(Locale.ROOT));
+        }
+        // the code becomes active just after its effective date and inactive at its expiry date.
+        if (!effectiveDate.isBefore(now) && effectiveDate.isBefore(nextEffectiveDate)) {
+          nextEffectiveDate = effectiveDate;
+        }
+        if (expiryDate.isAfter(now) && expiryDate.isBefore(nextExpiryDate)) {
+          nextExpiryDate = expiryDate;
+        }
+      }
+    }
+    return new Index<>(codes, Set.copyOf(activeCodes), nextEffectiveDate, nextExpiryDate);
+  }
+
+  /**
+   * Immutable set of active codes, valid for one code list until the next effective or expiry date.
+   *
+   * @param <T> the type of the code
+   */
+  static final class Index<T> {
+    private final List<T> source;
+    private final Set<String> activeCodes;
+    private final LocalDateTime nextEffectiveDate;
+    private final LocalDateTime nextExpiryDate;
+
+    private Index(final List<T> source, final Set<String> activeCodes, final LocalDateTime nextEffectiveDate, final LocalDateTime nextExpiryDate) {
+      this.source = source;
+      this.activeCodes = activeCodes;
+      this.nextEffectiveDate = nextEffectiveDate;
+      this.nextExpiryDate = nextExpiryDate;
+    }
+
+    private boolean isValidAt(final LocalDateTime now) {
+      return !now.isAfter(this.nextEffectiveDate) && now.isBefore(this.nextExpiryDate);
+    }
+
+    /**
+     * Gets active codes.
+     *
+     * @return the active codes
+     */
+    Set<String> getActiveCodes() {
+      return this.activeCodes;
+    }
+  }
+}
@@ -3,11 +3,9 @@ package ca.bc.gov.educ.api.pen.services.rules;
 import ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationFieldCode;
 import ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode;
 import ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueTypeCode;
-import ca.bc.gov.educ.api.pen.services.model.PENNameText;
 import ca.bc.gov.educ.api.pen.services.service.PENNameTextService;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
-import com.google.common.base.Stopwatch;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -16,7 +14,6 @@ import org.springframework.lang.NonNull;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode.ERROR;
@@ -207,58 +204,16 @@ public abstract class BaseRule implements Rule {
    *    Interactive Mode: If processing interactive (not batch), perform the check, but if issue occurs, set severity to WARNING, even if code is FC.
    * </pre>
    *
-   * @param results       the results
-   * @param fieldValue    the field value
-   * @param fieldCode     the field code
-   * @param isInteractive the is interactive
-   * @param penNameTexts  the pen name texts
+   * @param results          the results
+   * @param fieldValue       the field value
+   * @param fieldCode        the field code
+   * @param isInteractive    the is interactive
+   * @param penNameTextIndex the pen name text index
    */
-  protected void checkFieldValueExactMatchWithInvalidText(final List<PenRequestStudentValidationIssue> results, final String fieldValue, final PenRequestStudentValidationFieldCode fieldCode, final boolean isInteractive, final List<PENNameText> penNameTexts) {
-    if (fieldValue != null && fieldCode != null && penNameTexts != null) {
-      final var filteredList = penNameTexts.stream().filter(el ->
-          (el.getEffectiveDate() != null && el.getExpiryDate() != null
-            && el.getEffectiveDate().isBefore(LocalDate.now())
-            && el.getExpiryDate().isAfter(LocalDate.now())
-            && fieldValue.equalsIgnoreCase(el.getInvalidText())))
-        .toList();
-      if (!filteredList.isEmpty()) {
-        final boolean isError;
-        final boolean isWarning;
-        switch (fieldCode) {
-          case LEGAL_FIRST:
-            isError = filteredList.stream().anyMatch(el -> FC.equalsIgnoreCase(el.getLegalGivenCheck()));
-            isWarning = filteredList.stream().anyMatch(el -> QC.equalsIgnoreCase(el.getLegalGivenCheck()));
-            this.createValidationEntry(results, fieldCode, isInteractive, isError, isWarning);
-            break;
-          case LEGAL_LAST:
-            isError = filteredList.stream().anyMatch(el -> FC.equalsIgnoreCase(el.getLegalSurnameCheck()));
-            isWarning = filteredList.stream().anyMatch(el -> QC.equalsIgnoreCase(el.getLegalSurnameCheck()));
-            this.createValidationEntry(results, fieldCode, isInteractive, isError, isWarning);
-            break;
-          case LEGAL_MID:
-            isError = filteredList.stream().anyMatch(el -> FC.equalsIgnoreCase(el.getLegalMiddleCheck()));
-            isWarning = filteredList.stream().anyMatch(el -> QC.equalsIgnoreCase(el.getLegalMiddleCheck()));
-            this.createValidationEntry(results, fieldCode, isInteractive, isError, isWarning);
-            break;
-          case USUAL_LAST:
-            isError = filteredList.stream().anyMatch(el -> FC.equalsIgnoreCase(el.getUsualSurnameCheck()));
-            isWarning = filteredList.stream().anyMatch(el -> QC.equalsIgnoreCase(el.getUsualSurnameCheck()));
-            this.createValidationEntry(results, fieldCode, isInteractive, isError, isWarning);
-            break;
-          case USUAL_FIRST:
-            isError = filteredList.stream().anyMatch(el -> FC.equalsIgnoreCase(el.getUsualGivenCheck()));
-            isWarning = filteredList.stream().anyMatch(el -> QC.equalsIgnoreCase(el.getUsualGivenCheck()));
-            this.createValidationEntry(results, fieldCode, isInteractive, isError, isWarning);
-            break;
-          case USUAL_MID:
-            isError = filteredList.stream().anyMatch(el -> FC.equalsIgnoreCase(el.getUsualMiddleCheck()));
-            isWarning = filteredList.stream().anyMatch(el -> QC.equalsIgnoreCase(el.getUsualMiddleCheck()));
-            this.createValidationEntry(results, fieldCode, isInteractive, isError, isWarning);
-            break;
-          default:
-            break;
-        }
-      }
+  protected void checkFieldValueExactMatchWithInvalidText(final List<PenRequestStudentValidationIssue> results, final String fieldValue, final PenRequestStudentValidationFieldCode fieldCode, final boolean isInteractive, final PENNameTextIndex penNameTextIndex) {
+    if (fieldValue != null && fieldCode != null && penNameTextIndex != null) {
+      penNameTextIndex.findSeverity(fieldValue, fieldCode, LocalDate.now())
+        .ifPresent(severity -> this.createValidationErrorForInteractiveAndBatch(results, fieldCode, isInteractive, severity == ERROR));
     } else {
       if (log.isDebugEnabled()) {
         log.debug("Skip this check as one of the values are null  fieldValue :: {}, fieldCode :: {} ", fieldValue, fieldCode);
@@ -266,12 +221,6 @@ public abstract class BaseRule implements Rule {
     }
   }
 
-  private void createValidationEntry(final List<PenRequestStudentValidationIssue> results, final PenRequestStudentValidationFieldCode fieldCode, final boolean isInteractive, final boolean isError, final boolean isWarning) {
-    if (isError || isWarning) {
-      this.createValidationErrorForInteractiveAndBatch(results, fieldCode, isInteractive, isError);
-    }
-  }
-
   /**
    * Create validation error for interactive and batch.
    *
@@ -311,7 +260,7 @@ public abstract class BaseRule implements Rule {
       }
     }
     if (this.resultsContainNoError(results)) {
-      this.checkFieldValueExactMatchWithInvalidText(results, fieldValue, fieldCode, isInteractive, penNameTextService.getPenNameTexts());
+      this.checkFieldValueExactMatchWithInvalidText(results, fieldValue, fieldCode, isInteractive, penNameTextService.getPenNameTextIndex());
     }
   }
 
@@ -319,18 +268,16 @@ public abstract class BaseRule implements Rule {
     return results.stream().noneMatch(el -> el.getPenRequestBatchValidationIssueSeverityCode().equals(ERROR.toString()));
   }
 
-  protected List<PenRequestStudentValidationIssue> checkForInvalidTextAndOneChar(final PenRequestStudentValidationPayload validationPayload, final Stopwatch stopwatch, final List<PenRequestStudentValidationIssue> results, final String fieldValue, final PenRequestStudentValidationFieldCode penRequestStudentValidationFieldCode, final PENNameTextService penNameTextService) {
+  protected List<PenRequestStudentValidationIssue> checkForInvalidTextAndOneChar(final PenRequestStudentValidationPayload validationPayload, final List<PenRequestStudentValidationIssue> results, final String fieldValue, final PenRequestStudentValidationFieldCode penRequestStudentValidationFieldCode, final PENNameTextService penNameTextService) {
     //PreReq: Skip this check if any of these issues has been reported for the current field: V2, V3, V4, V5, V6, V7, V8
     // to achieve above we do an empty check here and proceed only if there were no validation error till now, for this field.
     if (this.resultsContainNoError(results)) {
-      this.checkFieldValueExactMatchWithInvalidText(results, fieldValue, penRequestStudentValidationFieldCode, validationPayload.getIsInteractive(), penNameTextService.getPenNameTexts());
+      this.checkFieldValueExactMatchWithInvalidText(results, fieldValue, penRequestStudentValidationFieldCode, validationPayload.getIsInteractive(), penNameTextService.getPenNameTextIndex());
     }
     if (this.resultsContainNoError(results) && StringUtils.isNotBlank(fieldValue) && fieldValue.trim().length() == 1) {
       results.add(this.createValidationEntity(WARNING, ONE_CHAR_NAME, penRequestStudentValidationFieldCode));
     }
     log.debug("transaction ID :: {} , returning results size :: {}", validationPayload.getTransactionID(), results.size());
-    stopwatch.stop();
-    log.info("Completed for {} in {} milli seconds", validationPayload.getTransactionID(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
     return results;
   }
 }
@@ -0,0 +1,163 @@
+package ca.bc.gov.educ.api.pen.services.rules;
+
+import ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationFieldCode;
+import ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode;
+import ca.bc.gov.educ.api.pen.services.model.PENNameText;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+
+import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationFieldCode.*;
+import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode.ERROR;
+import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode.WARNING;
+
+/**
+ * Immutable index of the blocked names in PEN_NAME_TEXT, keyed by the case folded invalid text.
+ * each entry keeps its effective window and the severity configured for every name field, FC being ERROR and QC being WARNING.
+ * it is built once per reload by {@link ca.bc.gov.educ.api.pen.services.service.PENNameTextService}, so a lookup is a single hash probe.
+ */
+public final class PENNameTextIndex {
+
+  /**
+   * The constant EMPTY.
+   */
+  public static final PENNameTextIndex EMPTY = new PENNameTextIndex(Collections.emptyMap(), 0);
+
+  /**
+   * The check columns of PEN_NAME_TEXT by the name field they apply to.
+   */
+  private static final Map<PenRequestStudentValidationFieldCode, Function<PENNameText, String>> CHECK_COLUMNS = new EnumMap<>(Map.of(
+      LEGAL_FIRST, PENNameText::getLegalGivenCheck,
+      LEGAL_LAST, PENNameText::getLegalSurnameCheck,
+      LEGAL_MID, PENNameText::getLegalMiddleCheck,
+      USUAL_FIRST, PENNameText::getUsualGivenCheck,
+      USUAL_LAST, PENNameText::getUsualSurnameCheck,
+      USUAL_MID, PENNameText::getUsualMiddleCheck
+  ));
+
+  /**
+   * The entries by case folded invalid text.
+   */
+  private final Map<String, List<Entry>> entriesByInvalidText;
+
+  /**
+   * The number of entries.
+   */
+  private final int size;
+
+  private PENNameTextIndex(final Map<String, List<Entry>> entriesByInvalidText, final int size) {
+    this.entriesByInvalidText = entriesByInvalidText;
+    this.size = size;
+  }
+
+  /**
+   * Build the index, records without an effective or expiry date can never be active, so they are left out.
+   *
+   * @param penNameTexts the pen name texts
+   * @return the pen name text index
+   */
+  public static PENNameTextIndex of(final Collection<PENNameText> penNameTexts) {
+    final Map<String, List<Entry>> entriesByInvalidText = new HashMap<>();
+    int size = 0;
+    for (final var penNameText : penNameTexts) {
+      final var effectiveDate = penNameText.getEffectiveDate();
+      final var expiryDate = penNameText.getExpiryDate();
+      if (penNameText.getInvalidText() == null || effectiveDate == null || expiryDate == null) {
+        continue;
+      }
+      final Map<PenRequestStudentValidationFieldCode, PenRequestStudentValidationIssueSeverityCode> severities = new EnumMap<>(PenRequestStudentValidationFieldCode.class);
+      CHECK_COLUMNS.forEach((fieldCode, checkColumn) -> toSeverity(checkColumn.apply(penNameText)).ifPresent(severity -> severities.put(fieldCode, severity)));
+      if (!severities.isEmpty()) {
+        entriesByInvalidText.computeIfAbsent(caseFold(penNameText.getInvalidText()), k -> new ArrayList<>(1)).add(new Entry(effectiveDate, expiryDate, severities));
+        size++;
+      }
+    }
+    entriesByInvalidText.replaceAll((k, v) -> List.copyOf(v));
+    return new PENNameTextIndex(Map.copyOf(entriesByInvalidText), size);
+  }
+
+  /**
+   * Find the severity for the field value, when it matches an invalid text active on the given date.
+   * ERROR wins over WARNING when several active records match.
+   *
+   * @param fieldValue the field value
+   * @param fieldCode  the field code
+   * @param date       the date the record must be active on, exclusive of the effective and expiry dates
+   * @return the severity, empty when the value is not blocked for the field
+   */
+  public Optional<PenRequestStudentValidationIssueSeverityCode> findSeverity(final String fieldValue, final PenRequestStudentValidationFieldCode fieldCode, final LocalDate date) {
+    final var entries = this.entriesByInvalidText.get(caseFold(fieldValue));
+    if (entries == null) {
+      return Optional.empty();
+    }
+    PenRequestStudentValidationIssueSeverityCode result = null;
+    for (final var entry : entries) {
+      if (entry.effectiveDate.isBefore(date) && entry.expiryDate.isAfter(date)) {
+        final var severity = entry.severities.get(fieldCode);
+        if (severity == ERROR) {
+          return Optional.of(ERROR);
+        } else if (severity == WARNING) {
+          result = WARNING;
+        }
+      }
+    }
+    return Optional.ofNullable(result);
+  }
+
+  /**
+   * Is empty boolean.
+   *
+   * @return the boolean
+   */
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Size int.
+   *
+   * @return the number of indexed records
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Fold the case the same way {@link String#equalsIgnoreCase(String)} compares characters.
+   *
+   * @param value the value
+   * @return the case folded value
+   */
+  private static String caseFold(final String value) {
+    final var chars = value.toCharArray();
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+    }
+    return new String(chars);
+  }
+
+  private static Optional<PenRequestStudentValidationIssueSeverityCode> toSeverity(final String check) {
+    if (BaseRule.FC.equalsIgnoreCase(check)) {
+      return Optional.of(ERROR);
+    } else if (BaseRule.QC.equalsIgnoreCase(check)) {
+      return Optional.of(WARNING);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * One PEN_NAME_TEXT record.
+   */
+  private static final class Entry {
+    private final LocalDate effectiveDate;
+    private final LocalDate expiryDate;
+    private final Map<PenRequestStudentValidationFieldCode, PenRequestStudentValidationIssueSeverityCode> severities;
+
+    private Entry(final LocalDate effectiveDate, final LocalDate expiryDate, final Map<PenRequestStudentValidationFieldCode, PenRequestStudentValidationIssueSeverityCode> severities) {
+      this.effectiveDate = effectiveDate;
+      this.expiryDate = expiryDate;
+      this.severities = severities;
+    }
+  }
+}
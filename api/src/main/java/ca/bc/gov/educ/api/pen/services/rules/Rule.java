@@ -3,7 +3,9 @@ package ca.bc.gov.educ.api.pen.services.rules;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The interface Rule.
@@ -19,4 +21,14 @@ public interface Rule {
    * @return the validation result as a list.
    */
   List<PenRequestStudentValidationIssue> validate(PenRequestStudentValidationPayload validationPayload);
+
+  /**
+   * The rules whose results this rule reads from {@link PenRequestStudentValidationPayload#getIssueList()}.
+   * a rule with dependencies is only evaluated after all of them have completed, independent rules may be evaluated concurrently.
+   *
+   * @return the rule types this rule depends on.
+   */
+  default Set<Class<? extends Rule>> dependsOn() {
+    return Collections.emptySet();
+  }
 }
@@ -5,7 +5,6 @@ import ca.bc.gov.educ.api.pen.services.rest.RestUtils;
 import ca.bc.gov.educ.api.pen.services.rules.BaseRule;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
-import com.google.common.base.Stopwatch;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -17,7 +16,6 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.ResolverStyle;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationFieldCode.BIRTH_DATE;
 import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode.ERROR;
@@ -45,7 +43,6 @@ public class BirthDateRule extends BaseRule {
    */
   @Override
   public List<PenRequestStudentValidationIssue> validate(final PenRequestStudentValidationPayload validationPayload) {
-    final var stopwatch = Stopwatch.createStarted();
     final List<PenRequestStudentValidationIssue> results = new LinkedList<>();
     String birthDate = validationPayload.getDob();
     if (StringUtils.isBlank(birthDate)) {
@@ -72,8 +69,6 @@ public class BirthDateRule extends BaseRule {
       this.validateDOBForPublicSchool(results, dobDate, validationPayload);
     }
     log.debug("transaction ID :: {} , returning results size :: {}", validationPayload.getTransactionID(), results.size());
-    stopwatch.stop();
-    log.info("Completed for {} in {} milli seconds", validationPayload.getTransactionID(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
     return results;
   }
 
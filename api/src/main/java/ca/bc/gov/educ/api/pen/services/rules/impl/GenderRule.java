@@ -1,19 +1,17 @@
 package ca.bc.gov.educ.api.pen.services.rules.impl;
 
 import ca.bc.gov.educ.api.pen.services.rest.RestUtils;
+import ca.bc.gov.educ.api.pen.services.rules.ActiveCodeLookup;
 import ca.bc.gov.educ.api.pen.services.rules.BaseRule;
+import ca.bc.gov.educ.api.pen.services.struct.v1.GenderCode;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
-import com.google.common.base.Stopwatch;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
-import java.time.LocalDateTime;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationFieldCode.GENDER;
 import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode.ERROR;
@@ -32,6 +30,11 @@ public class GenderRule extends BaseRule {
   @Getter(PRIVATE)
   private final RestUtils restUtils;
 
+  /**
+   * The active gender codes.
+   */
+  private final ActiveCodeLookup<GenderCode> activeGenderCodes = new ActiveCodeLookup<>(GenderCode::getGenderCode, GenderCode::getEffectiveDate, GenderCode::getExpiryDate);
+
   /**
    * Instantiates a new Gender rule.
    *
@@ -49,7 +52,6 @@ public class GenderRule extends BaseRule {
    */
   @Override
   public List<PenRequestStudentValidationIssue> validate(final PenRequestStudentValidationPayload validationPayload) {
-    final var stopwatch = Stopwatch.createStarted();
     final List<PenRequestStudentValidationIssue> results = new LinkedList<>();
     final var genderCodes = this.restUtils.getGenderCodes();
     final String genderCode = validationPayload.getGenderCode();
@@ -57,16 +59,11 @@ public class GenderRule extends BaseRule {
       results.add(this.createValidationEntity(ERROR, GENDER_ERR, GENDER));
     } else {
       final String finalGenderCode = genderCode.trim();
-      val isValidGenderCode = genderCodes.stream().anyMatch(gender -> LocalDateTime.now().isAfter(gender.getEffectiveDate())
-        && LocalDateTime.now().isBefore(gender.getExpiryDate())
-        && finalGenderCode.equalsIgnoreCase(gender.getGenderCode()));
-      if (!isValidGenderCode) {
+      if (!this.activeGenderCodes.isActive(genderCodes, finalGenderCode)) {
         results.add(this.createValidationEntity(ERROR, GENDER_ERR, GENDER));
       }
     }
     log.debug("transaction ID :: {} , returning results size :: {}", validationPayload.getTransactionID(), results.size());
-    stopwatch.stop();
-    log.info("Completed for {} in {} milli seconds", validationPayload.getTransactionID(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
     return results;
   }
 }
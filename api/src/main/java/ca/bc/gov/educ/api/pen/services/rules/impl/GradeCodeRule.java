@@ -1,11 +1,13 @@
 package ca.bc.gov.educ.api.pen.services.rules.impl;
 
 import ca.bc.gov.educ.api.pen.services.rest.RestUtils;
+import ca.bc.gov.educ.api.pen.services.rules.ActiveCodeLookup;
 import ca.bc.gov.educ.api.pen.services.rules.BaseRule;
+import ca.bc.gov.educ.api.pen.services.rules.Rule;
 import ca.bc.gov.educ.api.pen.services.struct.v1.GradeAgeRange;
+import ca.bc.gov.educ.api.pen.services.struct.v1.GradeCode;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
-import com.google.common.base.Stopwatch;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -13,7 +15,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.Period;
 import java.time.format.DateTimeFormatter;
 import java.time.format.ResolverStyle;
@@ -21,8 +22,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationFieldCode.BIRTH_DATE;
 import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationFieldCode.GRADE_CODE;
@@ -46,6 +47,10 @@ public class GradeCodeRule extends BaseRule {
    */
   @Getter(PRIVATE)
   private final RestUtils restUtils;
+  /**
+   * The active grade codes.
+   */
+  private final ActiveCodeLookup<GradeCode> activeGradeCodes = new ActiveCodeLookup<>(GradeCode::getGradeCode, GradeCode::getEffectiveDate, GradeCode::getExpiryDate);
   /**
    * The Current date.
    */
@@ -107,6 +112,16 @@ public class GradeCodeRule extends BaseRule {
     this.gradeAgeRangeMap.put("12", GradeAgeRange.builder().lowerRange(16).upperRange(21).build());
   }
 
+  /**
+   * The young and old check reads the date of birth issues reported by {@link BirthDateRule}.
+   *
+   * @return the rule types this rule depends on.
+   */
+  @Override
+  public Set<Class<? extends Rule>> dependsOn() {
+    return Set.of(BirthDateRule.class);
+  }
+
   /**
    * Validates the student record for the given rule.
    *
@@ -115,16 +130,12 @@ public class GradeCodeRule extends BaseRule {
    */
   @Override
   public List<PenRequestStudentValidationIssue> validate(final PenRequestStudentValidationPayload validationPayload) {
-    final var stopwatch = Stopwatch.createStarted();
     final List<PenRequestStudentValidationIssue> results = new LinkedList<>();
     final var gradeCodes = this.restUtils.getGradeCodes();
     final String gradeCode = validationPayload.getGradeCode();
     if (StringUtils.isNotBlank(gradeCode)) {
       final String finalGradeCode = gradeCode.trim();
-      val isGradeCodeValid = gradeCodes.stream().anyMatch(gradeCode1 -> LocalDateTime.now().isAfter(gradeCode1.getEffectiveDate())
-        && LocalDateTime.now().isBefore(gradeCode1.getExpiryDate())
-        && finalGradeCode.equalsIgnoreCase(gradeCode1.getGradeCode()));
-      if (!isGradeCodeValid) {
+      if (!this.activeGradeCodes.isActive(gradeCodes, finalGradeCode)) {
         results.add(this.createValidationEntity(validationPayload.getIsInteractive() ? ERROR : WARNING, GRADE_CD_ERR, GRADE_CODE));
       }
       if (results.isEmpty() && this.noDOBErrorReported(validationPayload.getIssueList())) {
@@ -132,8 +143,6 @@ public class GradeCodeRule extends BaseRule {
       }
     }
     log.debug("transaction ID :: {} , returning results size :: {}", validationPayload.getTransactionID(), results.size());
-    stopwatch.stop();
-    log.info("Completed for {} in {} milli seconds", validationPayload.getTransactionID(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
     return results;
   }
 
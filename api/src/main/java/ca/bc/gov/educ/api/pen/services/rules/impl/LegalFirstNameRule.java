@@ -4,7 +4,6 @@ import ca.bc.gov.educ.api.pen.services.rules.BaseLastNameFirstNameRule;
 import ca.bc.gov.educ.api.pen.services.service.PENNameTextService;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
-import com.google.common.base.Stopwatch;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -46,7 +45,6 @@ public class LegalFirstNameRule extends BaseLastNameFirstNameRule {
    */
   @Override
   public List<PenRequestStudentValidationIssue> validate(final PenRequestStudentValidationPayload validationPayload) {
-    final var stopwatch = Stopwatch.createStarted();
     final List<PenRequestStudentValidationIssue> results = new LinkedList<>();
     final var legalFirstName = validationPayload.getLegalFirstName();
     val legalLastName = validationPayload.getLegalLastName();
@@ -59,7 +57,7 @@ public class LegalFirstNameRule extends BaseLastNameFirstNameRule {
     } else {
       this.defaultValidationForNameFields(results, legalFirstName, LEGAL_FIRST, validationPayload.getIsInteractive());
     }
-    return this.checkForInvalidTextAndOneChar(validationPayload, stopwatch, results, legalFirstName, LEGAL_FIRST, this.penNameTextService);
+    return this.checkForInvalidTextAndOneChar(validationPayload, results, legalFirstName, LEGAL_FIRST, this.penNameTextService);
   }
 
 
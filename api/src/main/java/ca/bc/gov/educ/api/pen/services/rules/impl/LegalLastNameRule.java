@@ -4,7 +4,6 @@ import ca.bc.gov.educ.api.pen.services.rules.BaseLastNameFirstNameRule;
 import ca.bc.gov.educ.api.pen.services.service.PENNameTextService;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
-import com.google.common.base.Stopwatch;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
@@ -44,7 +43,6 @@ public class LegalLastNameRule extends BaseLastNameFirstNameRule {
    */
   @Override
   public List<PenRequestStudentValidationIssue> validate(final PenRequestStudentValidationPayload validationPayload) {
-    final var stopwatch = Stopwatch.createStarted();
     final List<PenRequestStudentValidationIssue> results = new ArrayList<>();
     final var legalLastName = validationPayload.getLegalLastName();
     if (StringUtils.isBlank(legalLastName)) {
@@ -54,7 +52,7 @@ public class LegalLastNameRule extends BaseLastNameFirstNameRule {
     } else {
       this.defaultValidationForNameFields(results, legalLastName, LEGAL_LAST, validationPayload.getIsInteractive());
     }
-    return this.checkForInvalidTextAndOneChar(validationPayload, stopwatch, results, legalLastName, LEGAL_LAST, this.penNameTextService);
+    return this.checkForInvalidTextAndOneChar(validationPayload, results, legalLastName, LEGAL_LAST, this.penNameTextService);
   }
 
 
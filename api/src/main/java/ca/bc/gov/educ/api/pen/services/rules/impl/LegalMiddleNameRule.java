@@ -1,16 +1,16 @@
 package ca.bc.gov.educ.api.pen.services.rules.impl;
 
 import ca.bc.gov.educ.api.pen.services.rules.BaseRule;
+import ca.bc.gov.educ.api.pen.services.rules.Rule;
 import ca.bc.gov.educ.api.pen.services.service.PENNameTextService;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
-import com.google.common.base.Stopwatch;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationFieldCode.*;
@@ -39,6 +39,16 @@ public class LegalMiddleNameRule extends BaseRule {
     this.penNameTextService = penNameTextService;
   }
 
+  /**
+   * The repeated and embedded middle name checks read the issues reported by {@link LegalFirstNameRule} and {@link LegalLastNameRule}.
+   *
+   * @return the rule types this rule depends on.
+   */
+  @Override
+  public Set<Class<? extends Rule>> dependsOn() {
+    return Set.of(LegalFirstNameRule.class, LegalLastNameRule.class);
+  }
+
   /**
    * Validates the student record for the given rule.
    *
@@ -47,7 +57,6 @@ public class LegalMiddleNameRule extends BaseRule {
    */
   @Override
   public List<PenRequestStudentValidationIssue> validate(final PenRequestStudentValidationPayload validationPayload) {
-    final var stopwatch = Stopwatch.createStarted();
     final List<PenRequestStudentValidationIssue> results = new LinkedList<>();
     var legalMiddleName = validationPayload.getLegalMiddleNames();
     if (StringUtils.isNotBlank(legalMiddleName)) {
@@ -58,7 +67,7 @@ public class LegalMiddleNameRule extends BaseRule {
         this.defaultValidationForNameFields(results, legalMiddleName, LEGAL_MID, validationPayload.getIsInteractive());
       }
       if (resultsContainNoError(results)) {
-        this.checkFieldValueExactMatchWithInvalidText(results, legalMiddleName, LEGAL_MID, validationPayload.getIsInteractive(), this.penNameTextService.getPenNameTexts());
+        this.checkFieldValueExactMatchWithInvalidText(results, legalMiddleName, LEGAL_MID, validationPayload.getIsInteractive(), this.penNameTextService.getPenNameTextIndex());
       }
       if (results.isEmpty()
         && this.legalFirstNameHasNoErrors(validationPayload)
@@ -75,8 +84,6 @@ public class LegalMiddleNameRule extends BaseRule {
     }
 
     log.debug("transaction ID :: {} , returning results size :: {}", validationPayload.getTransactionID(), results.size());
-    stopwatch.stop();
-    log.info("Completed for {} in {} milli seconds", validationPayload.getTransactionID(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
     return results;
   }
 
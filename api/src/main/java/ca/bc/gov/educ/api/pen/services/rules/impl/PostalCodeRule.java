@@ -3,13 +3,11 @@ package ca.bc.gov.educ.api.pen.services.rules.impl;
 import ca.bc.gov.educ.api.pen.services.rules.BaseRule;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
-import com.google.common.base.Stopwatch;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationFieldCode.POSTAL_CODE;
@@ -41,7 +39,6 @@ public class PostalCodeRule extends BaseRule {
    */
   @Override
   public List<PenRequestStudentValidationIssue> validate(final PenRequestStudentValidationPayload validationPayload) {
-    final var stopwatch = Stopwatch.createStarted();
     final List<PenRequestStudentValidationIssue> results = new LinkedList<>();
     final String postalCode = validationPayload.getPostalCode();
     final String mincode = validationPayload.getMincode();
@@ -51,8 +48,6 @@ public class PostalCodeRule extends BaseRule {
       results.add(this.createValidationEntity(WARNING, PC_ERR, POSTAL_CODE));
     }
     log.debug("transaction ID :: {} , returning results size :: {}", validationPayload.getTransactionID(), results.size());
-    stopwatch.stop();
-    log.info("Completed for {} in {} milli seconds", validationPayload.getTransactionID(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
     return results;
   }
 }
\ No newline at end of file
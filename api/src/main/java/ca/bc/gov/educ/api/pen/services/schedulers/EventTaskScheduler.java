@@ -5,19 +5,27 @@ import ca.bc.gov.educ.api.pen.services.helpers.LogHelper;
 import ca.bc.gov.educ.api.pen.services.model.Saga;
 import ca.bc.gov.educ.api.pen.services.orchestrator.base.Orchestrator;
 import ca.bc.gov.educ.api.pen.services.repository.SagaRepository;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import static lombok.AccessLevel.PRIVATE;
 
@@ -27,6 +35,10 @@ import static lombok.AccessLevel.PRIVATE;
 @Slf4j
 @Component
 public class EventTaskScheduler {
+  /**
+   * No page is read past this time, so the run ends well before the lock expires and another pod starts replaying.
+   */
+  private static final Duration REPLAY_TIME_BUDGET = Duration.ofSeconds(45);
   /**
    * The Saga orchestrators.
    */
@@ -37,6 +49,18 @@ public class EventTaskScheduler {
    */
   @Getter(PRIVATE)
   private final SagaRepository sagaRepository;
+  /**
+   * The Saga event executor.
+   */
+  @Getter(PRIVATE)
+  private final StripedExecutor sagaEventExecutor;
+  /**
+   * The number of saga ids read per page.
+   */
+  @Value("${scheduled.jobs.replay.uncompleted.sagas.page.size}")
+  @Setter
+  @Getter(PRIVATE)
+  private int replayPageSize;
   /**
    * The Status filters.
    */
@@ -46,50 +70,84 @@ public class EventTaskScheduler {
   /**
    * Instantiates a new Event task scheduler.
    *
-   * @param sagaRepository the saga repository
-   * @param orchestrators  the orchestrators
+   * @param sagaRepository    the saga repository
+   * @param orchestrators     the orchestrators
+   * @param sagaEventExecutor the saga event executor
    */
-  public EventTaskScheduler(final SagaRepository sagaRepository, final List<Orchestrator> orchestrators) {
+  public EventTaskScheduler(final SagaRepository sagaRepository, final List<Orchestrator> orchestrators, final StripedExecutor sagaEventExecutor) {
     this.sagaRepository = sagaRepository;
+    this.sagaEventExecutor = sagaEventExecutor;
     orchestrators.forEach(orchestrator -> this.sagaOrchestrators.put(orchestrator.getSagaName(), orchestrator));
     log.info("'{}' Saga Orchestrators are loaded.", String.join(",", this.sagaOrchestrators.keySet()));
   }
 
   /**
-   * Find and process uncompleted sagas.
+   * Find and process uncompleted sagas, a page of ids at a time so a backlog of stuck sagas never sits in the heap at once.
+   * the replays of a page queue up on the stripes of the saga event executor as ids, which holds this thread back once
+   * they are full, so at most one page of ids plus the sagas being replayed are loaded.
    */
   @Scheduled(cron = "1 * * * * *") //
   @SchedulerLock(name = "REPLAY_UNCOMPLETED_SAGAS",
       lockAtLeastFor = "PT50S", lockAtMostFor = "PT55S")
   public void findAndProcessUncompletedSagas() {
-    final List<Saga> sagas = this.getSagaRepository().findAllByStatusIn(this.getStatusFilters());
-    if (!sagas.isEmpty()) {
-      this.processUncompletedSagas(sagas);
+    if (this.getSagaOrchestrators().isEmpty()) {
+      return;
+    }
+    final long deadline = System.nanoTime() + REPLAY_TIME_BUDGET.toNanos();
+    final LocalDateTime createDate = LocalDateTime.now().minusMinutes(1);
+    final Set<String> sagaNames = this.getSagaOrchestrators().keySet();
+    final Pageable page = PageRequest.of(0, this.getReplayPageSize());
+    List<UUID> sagaIds = this.getSagaRepository().findSagaIdsToReplay(this.getStatusFilters(), sagaNames, createDate, page);
+    while (!sagaIds.isEmpty()) {
+      this.processUncompletedSagas(sagaIds);
+      if (sagaIds.size() < this.getReplayPageSize() || System.nanoTime() - deadline >= 0) {
+        break;
+      }
+      sagaIds = this.getSagaRepository().findSagaIdsToReplayAfter(this.getStatusFilters(), sagaNames, createDate, sagaIds.get(sagaIds.size() - 1), page);
     }
   }
 
   /**
-   * Process uncompleted sagas.
+   * Process uncompleted sagas, the retry counts of the page are incremented in one statement and only the ids are handed
+   * to the stripes, each replay loads its saga once its turn comes.
    *
-   * @param sagas the sagas
+   * @param sagaIds the saga ids of the page
    */
-  private void processUncompletedSagas(final List<Saga> sagas) {
-    for (val saga : sagas) {
-      if (saga.getCreateDate().isBefore(LocalDateTime.now().minusMinutes(1))
-          && this.getSagaOrchestrators().containsKey(saga.getSagaName())) {
-        try {
-          this.setRetryCountAndLog(saga);
-          this.getSagaOrchestrators().get(saga.getSagaName()).replaySaga(saga);
-        } catch (final InterruptedException ex) {
-          Thread.currentThread().interrupt();
-          log.error("InterruptedException while findAndProcessPendingSagaEvents :: for saga :: {} :: {}", saga, ex);
-        } catch (final Exception e) {
-          log.error("Exception while findAndProcessPendingSagaEvents :: for saga :: {} :: {}", saga, e);
-        }
+  private void processUncompletedSagas(final List<UUID> sagaIds) {
+    this.getSagaRepository().incrementRetryCount(sagaIds);
+    for (val sagaId : sagaIds) {
+      try {
+        this.getSagaEventExecutor().execute(sagaId, () -> this.replaySaga(sagaId));
+      } catch (final Exception e) {
+        log.error("Exception while findAndProcessPendingSagaEvents :: for saga :: {} :: {}", sagaId, e);
       }
     }
   }
 
+  /**
+   * Replay saga, on the stripe of the saga. the saga is read here, after the events queued before it on the stripe ran,
+   * so a saga they completed is skipped.
+   *
+   * @param sagaId the saga id
+   */
+  private void replaySaga(final UUID sagaId) {
+    try {
+      final Optional<Saga> sagaOptional = this.getSagaRepository().findById(sagaId);
+      if (sagaOptional.isEmpty() || SagaStatusEnum.COMPLETED.toString().equals(sagaOptional.get().getStatus())) {
+        log.debug("saga :: {} is gone or completed, nothing to replay", sagaId);
+        return;
+      }
+      final var saga = sagaOptional.get();
+      LogHelper.logSagaRetry(saga);
+      this.getSagaOrchestrators().get(saga.getSagaName()).replaySaga(saga);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      log.error("InterruptedException while findAndProcessPendingSagaEvents :: for saga :: {} :: {}", sagaId, ex);
+    } catch (final Exception e) {
+      log.error("Exception while findAndProcessPendingSagaEvents :: for saga :: {} :: {}", sagaId, e);
+    }
+  }
+
   /**
    * Gets status filters.
    *
@@ -105,16 +163,4 @@ public class EventTaskScheduler {
       return statuses;
     }
   }
-
-  private void setRetryCountAndLog(final Saga saga) {
-    Integer retryCount = saga.getRetryCount();
-    if (retryCount == null || retryCount == 0) {
-      retryCount = 1;
-    } else {
-      retryCount += 1;
-    }
-    saga.setRetryCount(retryCount);
-    this.getSagaRepository().save(saga);
-    LogHelper.logSagaRetry(saga);
-  }
 }
@@ -2,6 +2,7 @@ package ca.bc.gov.educ.api.pen.services.service;
 
 import ca.bc.gov.educ.api.pen.services.model.PENNameText;
 import ca.bc.gov.educ.api.pen.services.repository.PenNameTextRepository;
+import ca.bc.gov.educ.api.pen.services.rules.PENNameTextIndex;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,35 +10,26 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static lombok.AccessLevel.PRIVATE;
 
 /**
  * The type Pen name text service.
+ * the pen name texts are held in an immutable snapshot which is swapped in one go on reload, so readers never wait for a reload.
  */
 @Service
 @Slf4j
 public class PENNameTextService {
 
   /**
-   * The constant PEN_NAME_TEXT.
+   * The current snapshot of PEN_NAME_TEXT.
    */
-  public static final String PEN_NAME_TEXT = "PEN_NAME_TEXT";
-  /**
-   * The Pen name text map.
-   */
-  private final Map<String, List<PENNameText>> penNameTextMap = new ConcurrentHashMap<>();
-  /**
-   * The Pen name text lock.
-   */
-  private final ReadWriteLock penNameTextLock = new ReentrantReadWriteLock();
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
   /**
    * The Pen name text repository.
    */
@@ -60,14 +52,18 @@ public class PENNameTextService {
   @PostConstruct
   public void init() {
     this.setPenNameTexts();
-    log.info("loaded {} entries into pen name text map ", this.penNameTextMap.values().size());
   }
 
   /**
-   * Reload cache.
+   * Reload cache, the table is only read again when its watermark moved since the last load.
    */
   @Scheduled(cron = "0 0/1 * * * *")//every minute
   public void reloadCache() {
+    final var watermark = this.getPenNameTextRepository().findWatermark();
+    if (this.snapshot.isLoaded() && this.snapshot.matches(watermark)) {
+      log.debug("pen name text is unchanged, skipping the reload");
+      return;
+    }
     log.info("started reloading cache..");
     this.setPenNameTexts();
     log.info("reloading cache completed..");
@@ -79,24 +75,69 @@ public class PENNameTextService {
    * @return the pen name texts
    */
   public List<PENNameText> getPenNameTexts() {
-    if (this.penNameTextMap.get(PEN_NAME_TEXT) == null || this.penNameTextMap.get(PEN_NAME_TEXT).isEmpty()) {
-      this.setPenNameTexts();
+    return this.getLoadedSnapshot().penNameTexts;
+  }
+
+  /**
+   * Gets the blocked name index, used by the name rules for the exact match check against PEN_NAME_TEXT.
+   *
+   * @return the pen name text index
+   */
+  public PENNameTextIndex getPenNameTextIndex() {
+    return this.getLoadedSnapshot().penNameTextIndex;
+  }
+
+  /**
+   * Gets the current snapshot, loading it when the initial load did not succeed.
+   *
+   * @return the snapshot
+   */
+  private Snapshot getLoadedSnapshot() {
+    final var current = this.snapshot;
+    if (current.isLoaded()) {
+      return current;
     }
-    return this.penNameTextMap.get(PEN_NAME_TEXT);
+    this.setPenNameTexts();
+    return this.snapshot;
+  }
+
+  /**
+   * Sets pen name texts, the watermark is read before the records so a change made in between is picked up by the next reload.
+   */
+  private synchronized void setPenNameTexts() {
+    final var watermark = this.getPenNameTextRepository().findWatermark();
+    final var penNameTexts = this.getPenNameTextRepository().findAll().stream()
+        .peek(x -> x.setInvalidText(x.getInvalidText() == null ? "" : x.getInvalidText().trim())).collect(Collectors.toList());
+    this.snapshot = new Snapshot(watermark, Collections.unmodifiableList(penNameTexts), PENNameTextIndex.of(penNameTexts));
+    log.info("loaded {} entries into pen name text map ", penNameTexts.size());
   }
 
   /**
-   * Sets pen name texts.
+   * Immutable snapshot of PEN_NAME_TEXT along with the watermark it was loaded at.
    */
-  private void setPenNameTexts() {
-    final Lock writeLock = this.penNameTextLock.writeLock();
-    try {
-      writeLock.lock();
-      this.penNameTextMap.put(PEN_NAME_TEXT, this.getPenNameTextRepository().findAll().stream()
-          .peek(x -> x.setInvalidText(x.getInvalidText() == null ? "" : x.getInvalidText().trim())).collect(Collectors.toList()));
-      log.info("loaded {} entries into pen name text map ", this.penNameTextMap.values().size());
-    } finally {
-      writeLock.unlock();
+  private static final class Snapshot {
+    /**
+     * The constant EMPTY, the snapshot before the first load.
+     */
+    private static final Snapshot EMPTY = new Snapshot(null, Collections.emptyList(), PENNameTextIndex.EMPTY);
+    private final LocalDateTime maxUpdateDate;
+    private final Long recordCount;
+    private final List<PENNameText> penNameTexts;
+    private final PENNameTextIndex penNameTextIndex;
+
+    private Snapshot(final PenNameTextRepository.PenNameTextWatermark watermark, final List<PENNameText> penNameTexts, final PENNameTextIndex penNameTextIndex) {
+      this.maxUpdateDate = watermark == null ? null : watermark.getMaxUpdateDate();
+      this.recordCount = watermark == null ? null : watermark.getRecordCount();
+      this.penNameTexts = penNameTexts;
+      this.penNameTextIndex = penNameTextIndex;
+    }
+
+    private boolean isLoaded() {
+      return this.recordCount != null;
+    }
+
+    private boolean matches(final PenNameTextRepository.PenNameTextWatermark watermark) {
+      return watermark != null && Objects.equals(this.maxUpdateDate, watermark.getMaxUpdateDate()) && Objects.equals(this.recordCount, watermark.getRecordCount());
     }
   }
 
@@ -3,12 +3,26 @@ package ca.bc.gov.educ.api.pen.services.service;
 import ca.bc.gov.educ.api.pen.services.rules.Rule;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
+import ca.bc.gov.educ.api.pen.services.util.BoundedExecutor;
+import ca.bc.gov.educ.api.pen.services.util.ThreadFactoryBuilder;
 import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.jboss.threads.EnhancedQueueExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -24,14 +38,58 @@ public class PenRequestStudentRecordValidationService {
    */
   private final List<Rule> rules;
 
+  /**
+   * The rules grouped into stages by their {@link Rule#dependsOn()} graph, a rule only depends on rules of earlier stages.
+   */
+  private final List<List<Integer>> ruleStages;
+
+  /**
+   * The meters of the rules and of the record validation.
+   */
+  private final ValidationMetrics validationMetrics;
+
+  /**
+   * Whether the independent rules of a single record are evaluated concurrently.
+   */
+  private final boolean concurrentRuleEvaluation;
+
+  /**
+   * The executor used to evaluate the rules of a single record concurrently. its queue is bounded, once it is full a rule
+   * is evaluated on the thread validating the record.
+   */
+  private final BoundedExecutor ruleExecutor;
+
+  /**
+   * The executor used to validate the records of a batch concurrently.
+   * it is a dedicated pool as the common fork join pool is restricted to a single thread in the container.
+   */
+  private final ExecutorService batchValidationExecutor;
+
   /**
    * Instantiates a new Pen request batch student record validation service.
    *
-   * @param rules the rules
+   * @param rules                    the rules
+   * @param batchValidationThreads   the number of threads used to validate a batch of records
+   * @param concurrentRuleEvaluation whether the independent rules of a single record are evaluated concurrently
+   * @param ruleThreads              the number of threads used to evaluate the rules concurrently
+   * @param ruleQueueSize            the maximum number of rules waiting for a rule thread
+   * @param meterRegistry            the meter registry the rule timers and issue counters are registered with
    */
   @Autowired
-  public PenRequestStudentRecordValidationService(final List<Rule> rules) {
+  public PenRequestStudentRecordValidationService(final List<Rule> rules, @Value("${validation.batch.threads}") final int batchValidationThreads,
+                                                  @Value("${validation.rules.concurrent}") final boolean concurrentRuleEvaluation, @Value("${validation.rules.threads}") final int ruleThreads,
+                                                  @Value("${validation.rules.queue.size}") final int ruleQueueSize,
+                                                  final MeterRegistry meterRegistry) {
     this.rules = rules;
+    this.ruleStages = buildRuleStages(rules);
+    this.validationMetrics = new ValidationMetrics(meterRegistry, rules);
+    this.concurrentRuleEvaluation = concurrentRuleEvaluation;
+    this.ruleExecutor = new BoundedExecutor("rule-validation", ruleThreads, ruleQueueSize, meterRegistry);
+    this.batchValidationExecutor = new EnhancedQueueExecutor.Builder().setThreadFactory(new ThreadFactoryBuilder().withNameFormat("batch-validation-%d").get())
+        .setCorePoolSize(batchValidationThreads)
+        .setMaximumPoolSize(batchValidationThreads)
+        .setKeepAliveTime(Duration.ofSeconds(60))
+        .build();
   }
 
   /**
@@ -45,18 +103,139 @@ public class PenRequestStudentRecordValidationService {
    * @return the list
    */
   public List<PenRequestStudentValidationIssue> validateStudentRecord(final PenRequestStudentValidationPayload validationPayload) {
-    final var stopwatch = Stopwatch.createStarted();
+    return this.validateStudentRecord(validationPayload, this.concurrentRuleEvaluation);
+  }
+
+  /**
+   * Validate student record, evaluating the rules either one after the other in their configured order or
+   * stage by stage with the rules of a stage running concurrently. the result is in the configured rule order either way.
+   *
+   * @param validationPayload the validation payload
+   * @param concurrent        whether the independent rules are evaluated concurrently
+   * @return the list
+   */
+  private List<PenRequestStudentValidationIssue> validateStudentRecord(final PenRequestStudentValidationPayload validationPayload, final boolean concurrent) {
+    final long start = System.nanoTime();
     final var validationResult = validationPayload.getIssueList();
-    this.rules.forEach(rule -> {
-      final var result = rule.validate(validationPayload);
-      if (!result.isEmpty()) {
-        validationResult.addAll(result);
+    if (concurrent) {
+      this.evaluateRulesConcurrently(validationPayload, validationResult);
+    } else {
+      for (int i = 0; i < this.rules.size(); i++) {
+        final var result = this.validationMetrics.validate(i, this.rules.get(i), validationPayload);
+        if (!result.isEmpty()) {
+          validationResult.addAll(result);
+        }
       }
-    });
+    }
+    this.validationMetrics.recordValidation(validationPayload, System.nanoTime() - start);
     log.debug("found {} error/warnings for this transaction :: {}", validationResult.size(), validationPayload.getTransactionID());
-    stopwatch.stop();
-    log.info("Completed validateStudentRecord for {} in {} milli seconds", validationPayload.getTransactionID(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
     return validationResult;
   }
 
+  /**
+   * Validate a batch of student records concurrently, each record is validated exactly as {@link #validateStudentRecord(PenRequestStudentValidationPayload)} does.
+   * the rules of a record are evaluated sequentially here, the records themselves already keep the cores busy.
+   *
+   * @param validationPayloads the validation payloads, transaction IDs are expected to be unique within the batch.
+   * @return the map of transaction ID to the list of issues, in the same order as the payloads.
+   */
+  public Map<String, List<PenRequestStudentValidationIssue>> validateStudentRecords(final List<PenRequestStudentValidationPayload> validationPayloads) {
+    final var stopwatch = Stopwatch.createStarted();
+    final var futures = validationPayloads.stream()
+        .map(payload -> CompletableFuture.supplyAsync(() -> this.validateStudentRecord(payload, false), this.batchValidationExecutor))
+        .toList();
+    final Map<String, List<PenRequestStudentValidationIssue>> validationResults = new LinkedHashMap<>();
+    for (int i = 0; i < validationPayloads.size(); i++) {
+      validationResults.put(validationPayloads.get(i).getTransactionID(), join(futures.get(i)));
+    }
+    stopwatch.stop();
+    log.info("Completed validateStudentRecords for {} records in {} milli seconds", validationPayloads.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    return validationResults;
+  }
+
+  /**
+   * Evaluate the rules stage by stage. the rules of a stage run concurrently and only read the issue list, which is
+   * extended with the results of a stage once it completes, so a rule sees the results of all the rules it depends on.
+   *
+   * @param validationPayload the validation payload
+   * @param validationResult  the issue list of the payload
+   */
+  private void evaluateRulesConcurrently(final PenRequestStudentValidationPayload validationPayload, final List<PenRequestStudentValidationIssue> validationResult) {
+    final int initialSize = validationResult.size();
+    final List<List<PenRequestStudentValidationIssue>> resultsByRule = new ArrayList<>(Collections.nCopies(this.rules.size(), Collections.emptyList()));
+    for (final var stage : this.ruleStages) {
+      final var futures = stage.stream()
+          .map(index -> CompletableFuture.supplyAsync(() -> this.validationMetrics.validate(index, this.rules.get(index), validationPayload), this.ruleExecutor))
+          .toList();
+      for (int i = 0; i < stage.size(); i++) {
+        resultsByRule.set(stage.get(i), join(futures.get(i)));
+      }
+      // only extended once every rule of the stage has completed, as the rules read it while running.
+      stage.forEach(index -> validationResult.addAll(resultsByRule.get(index)));
+    }
+    // restore the configured rule order, the stages may have appended the results out of order.
+    validationResult.subList(initialSize, validationResult.size()).clear();
+    resultsByRule.forEach(validationResult::addAll);
+  }
+
+  /**
+   * Join the future, surfacing the same exception the sequential evaluation would have thrown.
+   *
+   * @param future the future
+   * @param <T>    the type of the result
+   * @return the result
+   */
+  private static <T> T join(final CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Group the rules into stages, a rule is placed in the stage after the last stage of its dependencies.
+   * the dependencies must be configured before the rule, so the sequential order and the stages agree.
+   *
+   * @param rules the rules in their configured order
+   * @return the rule indexes by stage
+   */
+  private static List<List<Integer>> buildRuleStages(final List<Rule> rules) {
+    final int[] stageOfRule = new int[rules.size()];
+    final List<List<Integer>> stages = new ArrayList<>();
+    for (int i = 0; i < rules.size(); i++) {
+      int stage = 0;
+      for (final var dependency : rules.get(i).dependsOn()) {
+        int dependencyIndex = -1;
+        for (int j = 0; j < i; j++) {
+          if (dependency.isInstance(rules.get(j))) {
+            dependencyIndex = j;
+          }
+        }
+        if (dependencyIndex < 0) {
+          throw new IllegalStateException("Rule " + rules.get(i).getClass().getSimpleName() + " depends on " + dependency.getSimpleName() + " which is not configured before it.");
+        }
+        stage = Math.max(stage, stageOfRule[dependencyIndex] + 1);
+      }
+      stageOfRule[i] = stage;
+      if (stages.size() <= stage) {
+        stages.add(new ArrayList<>());
+      }
+      stages.get(stage).add(i);
+    }
+    return stages;
+  }
+
+  /**
+   * Shutdown the executors.
+   */
+  @PreDestroy
+  public void close() {
+    this.ruleExecutor.shutdown();
+    this.batchValidationExecutor.shutdown();
+  }
+
 }
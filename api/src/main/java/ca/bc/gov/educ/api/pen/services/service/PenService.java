@@ -1,23 +1,32 @@
 package ca.bc.gov.educ.api.pen.services.service;
 
 import ca.bc.gov.educ.api.pen.services.exception.PenServicesAPIRuntimeException;
+import ca.bc.gov.educ.api.pen.services.model.PenAllocationEntity;
+import ca.bc.gov.educ.api.pen.services.repository.PenAllocationRepository;
 import ca.bc.gov.educ.api.pen.services.rest.RestUtils;
+import ca.bc.gov.educ.api.pen.services.util.PenCheckDigitUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PreDestroy;
 import lombok.Getter;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBatch;
 import org.redisson.api.RBucket;
-import org.redisson.api.RPermitExpirableSemaphore;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static lombok.AccessLevel.PRIVATE;
 
@@ -28,6 +37,16 @@ import static lombok.AccessLevel.PRIVATE;
 @Slf4j
 public class PenService {
 
+  /**
+   * The redis key holding the last PEN leased by any pod.
+   */
+  private static final String NEXT_PEN_NUMBER = "NEXT_PEN_NUMBER";
+
+  /**
+   * How long the PEN issued for a transaction is remembered, so the same transaction gets the same PEN.
+   */
+  private static final long PEN_FOR_TRANSACTION_TTL_DAYS = 2;
+
   /**
    * The Redisson client.
    */
@@ -40,16 +59,39 @@ public class PenService {
   @Getter(PRIVATE)
   private final RestUtils restUtils;
 
+  /**
+   * The Pen allocation repository, holding the highest PEN ever leased from NEXT_PEN_NUMBER.
+   */
+  @Getter(PRIVATE)
+  private final PenAllocationRepository penAllocationRepository;
+
+  /**
+   * The number of PENs leased from NEXT_PEN_NUMBER at a time.
+   */
+  private final int blockSize;
+
+  /**
+   * The block of PENs leased by this pod, null until the first allocation and after it is released.
+   */
+  private final AtomicReference<PenBlock> currentBlock = new AtomicReference<>();
+
   /**
    * Instantiates a new Pen service.
    *
    * @param redissonClient the redisson client
-   * @param restUtils      the rest utils
+   * @param restUtils               the rest utils
+   * @param penAllocationRepository the pen allocation repository
+   * @param blockSize               the number of PENs leased at a time
    */
   @Autowired
-  public PenService(final RedissonClient redissonClient, final RestUtils restUtils) {
+  public PenService(final RedissonClient redissonClient, final RestUtils restUtils, final PenAllocationRepository penAllocationRepository, @Value("${pen.allocation.block.size}") final int blockSize) {
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("pen.allocation.block.size must be at least 1 :: " + blockSize);
+    }
     this.redissonClient = redissonClient;
     this.restUtils = restUtils;
+    this.penAllocationRepository = penAllocationRepository;
+    this.blockSize = blockSize;
   }
 
   /**
@@ -64,109 +106,210 @@ public class PenService {
     if (penForTransaction.isExists()) {
       return penForTransaction.get();
     } else {
-      final long penWithoutCheckDigit = this.getNextPenNumberWithoutCheckDigit(transactionID);
-      final int checkDigit = this.calculateCheckDigit(String.valueOf(penWithoutCheckDigit), transactionID);
-      final String penGenerated = penWithoutCheckDigit + "" + checkDigit;
-      penForTransaction.set(penGenerated, 2, TimeUnit.DAYS);
+      final String penGenerated = this.generatePen(transactionID);
+      penForTransaction.set(penGenerated, PEN_FOR_TRANSACTION_TTL_DAYS, TimeUnit.DAYS);
       return penGenerated;
     }
 
   }
 
   /**
-   * Example:
-   * <pre>
-   *  the original PEN number is 746282656
-   *  1. First 8 digits are 74628265
-   *  2. Sum the odd digits: 7 + 6 + 8 + 6 = 27 (S1)
-   *  3. Extract the even digits 4,2,2,5 to get A = 4225.
-   *  4. Multiply A times 2 to get B = 8450
-   *  5. Sum the digits of B: 8 + 4 + 5 + 0 = 17 (S2)
-   *  6. 27 + 17 = 44 (S3)
-   *  7. S3 is not a multiple of 10
-   *  8. Calculate check-digit as 10 - MOD(S3,10): 10 - MOD(44,10) = 10 - 4 = 6
-   *  A) Alternatively, round up S3 to next multiple of 10: 44 becomes 50 B) Subtract S3 from this: 50 - 44 = 6
-   * </pre>
+   * Gets next pen numbers for a batch of transactions. the PENs already issued are read with one multi get, and the new
+   * ones are recorded against their transaction with one pipelined batch, instead of two round trips per transaction.
    *
-   * @param penWithoutCheckDigit the pen without check digit
-   * @param guid                 the guid to identify the transaction.
-   * @return checkDigit a number
-   */
-  private int calculateCheckDigit(@NonNull final String penWithoutCheckDigit, final String guid) {
-    final List<Integer> odds = new LinkedList<>();
-    final List<Integer> evens = new LinkedList<>();
-    this.createOddAndEven(penWithoutCheckDigit, odds, evens);
-    final int sumOdds = odds.stream().mapToInt(Integer::intValue).sum();
-    final String fullEvenValueDoubledString = String.valueOf(Integer.parseInt(evens.stream().map(Object::toString).collect(Collectors.joining(""))) * 2);
-    final List<Integer> listOfFullEvenValueDoubled = new LinkedList<>();
-    for (int i = 0; i < fullEvenValueDoubledString.length(); i++) {
-      listOfFullEvenValueDoubled.add(Integer.parseInt(fullEvenValueDoubledString.substring(i, i + 1)));
+   * @param transactionIDs the transaction IDs, each identifying one transaction.
+   * @return the map of transaction ID to PEN, in the order of the transaction IDs
+   */
+  @Retryable(value = {Exception.class}, backoff = @Backoff(multiplier = 2, delay = 2000))
+  public Map<String, String> getNextPenNumbers(final Collection<String> transactionIDs) {
+    final Map<String, String> pens = new LinkedHashMap<>();
+    if (transactionIDs.isEmpty()) {
+      return pens;
     }
-    final int sumEvens = listOfFullEvenValueDoubled.stream().mapToInt(Integer::intValue).sum();
-    final int finalSum = sumEvens + sumOdds;
-    int checkDigit = 0;
-    if (finalSum % 10 != 0) {
-      checkDigit = 10 - (finalSum % 10);
+    final var distinctTransactionIDs = new LinkedHashSet<>(transactionIDs);
+    final Map<String, String> existingPens = this.getRedissonClient().getBuckets().get(distinctTransactionIDs.toArray(new String[0]));
+    final RBatch batch = this.getRedissonClient().createBatch();
+    boolean hasNewPens = false;
+    for (final var transactionID : distinctTransactionIDs) {
+      var pen = existingPens.get(transactionID);
+      if (pen == null) {
+        pen = this.generatePen(transactionID);
+        batch.<String>getBucket(transactionID).setAsync(pen, PEN_FOR_TRANSACTION_TTL_DAYS, TimeUnit.DAYS);
+        hasNewPens = true;
+      }
+      pens.put(transactionID, pen);
+    }
+    if (hasNewPens) {
+      batch.execute();
     }
-    log.info("Check Digit calculated for :: {} , is :: {}", guid, checkDigit);
-    return checkDigit;
+    log.info("PENs returned for {} transactions, {} of them already issued", pens.size(), existingPens.size());
+    return pens;
   }
 
   /**
-   * Create odd and even.
+   * Generate a new PEN, check digit included.
    *
-   * @param penWithoutCheckDigit the pen without check digit
-   * @param odds                 the odds
-   * @param evens                the evens
-   */
-  private void createOddAndEven(final String penWithoutCheckDigit, final List<Integer> odds, final List<Integer> evens) {
-    for (int i = 0; i < penWithoutCheckDigit.length(); i++) {
-      final int number = Integer.parseInt(penWithoutCheckDigit.substring(i, i + 1));
-      if (i % 2 == 0) {
-        odds.add(number);
-      } else {
-        evens.add(number);
-      }
-    }
+   * @param transactionID the transaction id
+   * @return the pen
+   */
+  private String generatePen(final String transactionID) {
+    final long penWithoutCheckDigit = this.getNextPenNumberWithoutCheckDigit(transactionID);
+    final int checkDigit = PenCheckDigitUtil.calculateCheckDigit(penWithoutCheckDigit);
+    log.info("Check Digit calculated for :: {} , is :: {}", transactionID, checkDigit);
+    return penWithoutCheckDigit + "" + checkDigit;
   }
 
   /**
-   * Gets next pen number without check digit.
+   * Gets next pen number without check digit, from the block leased by this pod. only leasing a new block talks to redis,
+   * and concurrent callers only wait on each other while that happens.
    *
    * @param transactionID the transactionID to identify transaction
    * @return the next pen number without check digit
    */
   private long getNextPenNumberWithoutCheckDigit(final String transactionID) {
     log.info("getNextPenNumberWithoutCheckDigit called for transactionID :: {}", transactionID);
-    final RPermitExpirableSemaphore semaphore = this.getRedissonClient().getPermitExpirableSemaphore("getNextPen");
-    semaphore.trySetPermits(1);
-    semaphore.expire(120, TimeUnit.SECONDS);
     try {
-      final String id = semaphore.tryAcquire(120, 40, TimeUnit.SECONDS);
-      long pen;
-      if (id != null) {
-        RAtomicLong atomicLong = this.getRedissonClient().getAtomicLong("NEXT_PEN_NUMBER");
-        if (!atomicLong.isExists()) {
-          log.info("RAtomicLong NEXT_PEN_NUMBER doesn't exist, getting the latest PEN from Student API");
-          pen = this.restUtils.getLatestPenNumberFromStudentAPI(transactionID);
-          if (pen == 0) {
-            throw new PenServicesAPIRuntimeException("Invalid Pen Returned from downstream method.");
-          } else {
-            atomicLong.set(pen);
-          }
-        }
-        pen = atomicLong.incrementAndGet();
-        semaphore.tryRelease(id);
-        log.info("PEN IS :: {} for transactionID :: {}", pen, transactionID);
-        return pen;
-      } else {
-        log.warn("PEN could not be retrieved, as lock could not be acquired for transactionID :: {}", transactionID);
-        throw new PenServicesAPIRuntimeException("PEN could not be retrieved, as lock could not be acquired.");
+      long pen = this.allocateFromCurrentBlock();
+      if (pen == 0) {
+        pen = this.allocateFromNewBlock(transactionID);
       }
-
+      log.info("PEN IS :: {} for transactionID :: {}", pen, transactionID);
+      return pen;
     } catch (final Exception e) {
       log.warn("PEN could not be retrieved, for transactionID :: {} :: {}", transactionID, e.getMessage());
-      throw new PenServicesAPIRuntimeException("PEN could not be retrieved ".concat(e.getMessage()));
+      throw new PenServicesAPIRuntimeException("PEN could not be retrieved ".concat(String.valueOf(e.getMessage())));
+    }
+  }
+
+  /**
+   * Take the next PEN of the current block.
+   *
+   * @return the pen, 0 when there is no block or it is used up
+   */
+  private long allocateFromCurrentBlock() {
+    final var block = this.currentBlock.get();
+    return block == null ? 0 : block.next();
+  }
+
+  /**
+   * Lease a new block unless another thread already did, and take its first PEN.
+   *
+   * @param transactionID the transaction id
+   * @return the pen
+   * @throws JsonProcessingException the json processing exception
+   */
+  private synchronized long allocateFromNewBlock(final String transactionID) throws JsonProcessingException {
+    long pen = this.allocateFromCurrentBlock();
+    while (pen == 0) {
+      final var block = this.leaseBlock(transactionID);
+      this.currentBlock.set(block);
+      pen = block.next();
+    }
+    return pen;
+  }
+
+  /**
+   * Lease the next block of PENs with a single atomic add on NEXT_PEN_NUMBER, which holds the last PEN leased by any pod.
+   * the end of the block is persisted before any of its PENs is handed out, so when redis loses the counter it is seeded
+   * from the higher of the latest PEN known to the Student API and the last PEN ever leased, PENs which were issued but
+   * not yet saved as students included.
+   *
+   * @param transactionID the transaction id
+   * @return the block
+   * @throws JsonProcessingException the json processing exception
+   */
+  private PenBlock leaseBlock(final String transactionID) throws JsonProcessingException {
+    final RAtomicLong nextPenNumber = this.getRedissonClient().getAtomicLong(NEXT_PEN_NUMBER);
+    if (!nextPenNumber.isExists()) {
+      log.info("RAtomicLong NEXT_PEN_NUMBER doesn't exist, getting the latest PEN from Student API");
+      final long latestStudentPen = this.restUtils.getLatestPenNumberFromStudentAPI(transactionID);
+      final long highWaterMark = this.getPenAllocationRepository().findById(NEXT_PEN_NUMBER).map(PenAllocationEntity::getHighWaterMark).orElse(0L);
+      final long latestPen = Math.max(latestStudentPen, highWaterMark);
+      if (latestPen == 0) {
+        throw new PenServicesAPIRuntimeException("Invalid Pen Returned from downstream method.");
+      }
+      log.info("Seeding NEXT_PEN_NUMBER from the latest student PEN {} and the last leased PEN {}", latestStudentPen, highWaterMark);
+      // only the first pod initializes the counter, the others keep leasing from what it set.
+      if (!nextPenNumber.compareAndSet(0, latestPen)) {
+        log.info("NEXT_PEN_NUMBER was initialized by another pod");
+      }
+    }
+    final long last = nextPenNumber.addAndGet(this.blockSize);
+    this.recordHighWaterMark(last);
+    final var block = new PenBlock(last - this.blockSize + 1, last);
+    log.info("Leased PENs {} to {}", block.first, block.last);
+    return block;
+  }
+
+  /**
+   * Persist the last PEN of a leased block, unless a higher one was already persisted by another pod.
+   *
+   * @param last the last PEN of the block
+   */
+  private void recordHighWaterMark(final long last) {
+    final var now = LocalDateTime.now();
+    if (this.getPenAllocationRepository().raiseHighWaterMark(NEXT_PEN_NUMBER, last, now) == 0 && !this.getPenAllocationRepository().existsById(NEXT_PEN_NUMBER)) {
+      this.getPenAllocationRepository().save(PenAllocationEntity.builder().allocationName(NEXT_PEN_NUMBER).highWaterMark(last).updateDate(now).build());
+    }
+  }
+
+  /**
+   * Release the PENs left in the block leased by this pod. they are handed back to NEXT_PEN_NUMBER when no other pod leased
+   * after this one, otherwise they are skipped and logged so they can be accounted for. the persisted high water mark is
+   * kept, so PENs handed back are skipped rather than issued twice if redis loses the counter before they are leased again.
+   */
+  @PreDestroy
+  public synchronized void releaseBlock() {
+    final var block = this.currentBlock.getAndSet(null);
+    if (block == null) {
+      return;
+    }
+    final long firstUnused = block.close();
+    if (firstUnused > block.last) {
+      return;
+    }
+    try {
+      if (this.getRedissonClient().getAtomicLong(NEXT_PEN_NUMBER).compareAndSet(block.last, firstUnused - 1)) {
+        log.info("Returned unused PENs {} to {}", firstUnused, block.last);
+      } else {
+        log.warn("Unused PENs {} to {} could not be returned, they will not be allocated", firstUnused, block.last);
+      }
+    } catch (final Exception e) {
+      log.warn("Unused PENs {} to {} could not be returned, they will not be allocated :: {}", firstUnused, block.last, e.getMessage());
+    }
+  }
+
+  /**
+   * A contiguous block of PENs leased from NEXT_PEN_NUMBER, handed out without locking.
+   */
+  private static final class PenBlock {
+    private final long first;
+    private final long last;
+    private final AtomicLong next;
+
+    private PenBlock(final long first, final long last) {
+      this.first = first;
+      this.last = last;
+      this.next = new AtomicLong(first);
+    }
+
+    /**
+     * Take the next PEN.
+     *
+     * @return the pen, 0 when the block is used up
+     */
+    private long next() {
+      final long pen = this.next.getAndIncrement();
+      return pen <= this.last ? pen : 0;
+    }
+
+    /**
+     * Stop handing out PENs.
+     *
+     * @return the first PEN which was not handed out
+     */
+    private long close() {
+      return Math.min(this.next.getAndSet(this.last + 1), this.last + 1);
     }
   }
 }
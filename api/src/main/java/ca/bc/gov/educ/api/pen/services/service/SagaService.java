@@ -1,24 +1,37 @@
 package ca.bc.gov.educ.api.pen.services.service;
 
 import ca.bc.gov.educ.api.pen.services.model.Saga;
+import ca.bc.gov.educ.api.pen.services.model.SagaEventStateSummary;
 import ca.bc.gov.educ.api.pen.services.model.SagaEventStates;
 import ca.bc.gov.educ.api.pen.services.repository.SagaEventRepository;
 import ca.bc.gov.educ.api.pen.services.repository.SagaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.data.util.Pair;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,17 +55,40 @@ public class SagaService {
    */
   @Getter(PRIVATE)
   private final SagaEventRepository sagaEventRepository;
+  /**
+   * The transaction of a saga state transition, it joins the transaction of the caller so the step is written atomically
+   * with the saga the caller read.
+   */
+  @Getter(PRIVATE)
+  private final TransactionTemplate transitionTransaction;
+  /**
+   * The number of sagas inserted in one JDBC batch, the Hibernate batch size.
+   */
+  @Getter(PRIVATE)
+  private final int batchSize;
+  /**
+   * The Entity manager.
+   */
+  @Getter(PRIVATE)
+  @PersistenceContext
+  private EntityManager entityManager;
 
   /**
    * Instantiates a new Saga service.
    *
    * @param sagaRepository      the saga repository
    * @param sagaEventRepository the saga event repository
+   * @param transactionManager  the transaction manager
+   * @param batchSize           the JDBC batch size
    */
   @Autowired
-  public SagaService(final SagaRepository sagaRepository, final SagaEventRepository sagaEventRepository) {
+  public SagaService(final SagaRepository sagaRepository, final SagaEventRepository sagaEventRepository, final PlatformTransactionManager transactionManager,
+                     @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}") final int batchSize) {
     this.sagaRepository = sagaRepository;
+    this.batchSize = batchSize;
     this.sagaEventRepository = sagaEventRepository;
+    this.transitionTransaction = new TransactionTemplate(transactionManager);
+    this.transitionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
   }
 
 
@@ -68,22 +104,56 @@ public class SagaService {
 
   /**
    * no need to do a get here as it is an attached entity
-   * first find the child record, if exist do not add. this scenario may occur in replay process,
-   * so dont remove this check. removing this check will lead to duplicate records in the child table.
+   * the saga update and the event state insert are flushed together in one transaction, without a lookup first, the one of
+   * the caller when there is one so the step is written atomically with what the caller read. the event state of the step
+   * a replay runs again is already recorded, only the saga is saved for it. when the step is already recorded, e.g. by the
+   * same event delivered twice, the unique constraint on the saga id and step number rejects the insert: in a transaction
+   * of its own the saga is then saved on its own, in the transaction of the caller the violation is thrown as that
+   * transaction can not go on after the failed insert. any other integrity violation is thrown, only transient failures
+   * are retried.
    *
    * @param saga            the saga object.
    * @param sagaEventStates the saga event
    */
-  @Retryable(value = {Exception.class}, maxAttempts = 5, backoff = @Backoff(multiplier = 2, delay = 2000))
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Retryable(value = {TransientDataAccessException.class}, maxAttempts = 5, backoff = @Backoff(multiplier = 2, delay = 2000))
   public void updateAttachedSagaWithEvents(final Saga saga, final SagaEventStates sagaEventStates) {
     saga.setUpdateDate(LocalDateTime.now());
-    this.getSagaRepository().save(saga);
-    val result = this.getSagaEventRepository()
-        .findBySagaAndSagaEventOutcomeAndSagaEventStateAndSagaStepNumber(saga, sagaEventStates.getSagaEventOutcome(), sagaEventStates.getSagaEventState(), sagaEventStates.getSagaStepNumber() - 1); //check if the previous step was same and had same outcome, and it is due to replay.
-    if (result.isEmpty()) {
-      this.getSagaEventRepository().save(sagaEventStates);
+    saga.setStepNumber(sagaEventStates.getSagaStepNumber());
+    if (Objects.equals(saga.getReplayedStepNumber(), sagaEventStates.getSagaStepNumber())) {
+      log.debug("step {} of saga {} is the one replayed, its event state is already recorded", sagaEventStates.getSagaStepNumber(), saga.getSagaId());
+      saga.setReplayedStepNumber(null);
+      this.getTransitionTransaction().executeWithoutResult(status -> this.getSagaRepository().save(saga));
+      return;
+    }
+    final boolean callerTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+    try {
+      this.getTransitionTransaction().executeWithoutResult(status -> {
+        this.getSagaRepository().save(saga);
+        this.getSagaEventRepository().saveAndFlush(sagaEventStates);
+      });
+    } catch (final DataIntegrityViolationException e) {
+      if (callerTransaction || !isStepAlreadyRecorded(e)) {
+        throw e;
+      }
+      log.debug("step {} of saga {} is already recorded", sagaEventStates.getSagaStepNumber(), saga.getSagaId());
+      this.getTransitionTransaction().executeWithoutResult(status -> this.getSagaRepository().save(saga));
+    }
+  }
+
+  /**
+   * Is step already recorded, whether the violation is the one of the unique constraint on the saga id and step number.
+   *
+   * @param e the data integrity violation
+   * @return the boolean
+   */
+  private static boolean isStepAlreadyRecorded(final DataIntegrityViolationException e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+          && violation.getConstraintName().toUpperCase().contains(SagaEventStates.SAGA_ID_STEP_CONSTRAINT)) {
+        return true;
+      }
     }
+    return false;
   }
 
   /**
@@ -106,6 +176,26 @@ public class SagaService {
     return this.getSagaEventRepository().findBySaga(saga);
   }
 
+  /**
+   * Find the last saga state, the one with the highest step, without its event response.
+   *
+   * @param saga the saga
+   * @return the optional
+   */
+  public Optional<SagaEventStateSummary> findLastSagaState(final Saga saga) {
+    return this.getSagaEventRepository().findFirstBySagaOrderBySagaStepNumberDesc(saga);
+  }
+
+  /**
+   * Find the event response of a saga state.
+   *
+   * @param sagaEventId the saga event id
+   * @return the event response
+   */
+  public String findSagaEventResponse(final UUID sagaEventId) {
+    return new String(this.getSagaEventRepository().findSagaEventResponseBytesBySagaEventId(sagaEventId), StandardCharsets.UTF_8);
+  }
+
 
   /**
    * Update saga record.
@@ -178,7 +268,9 @@ public class SagaService {
   }
 
   /**
-   * Create saga records in db saga.
+   * Create saga records in db saga. the sagas are persisted and flushed a JDBC batch at a time, the ids come from the
+   * in memory UUID generator so nothing is read back, and the persistence context is cleared after each batch so a bulk
+   * run of thousands of sagas does not keep all of them, and the snapshots of their payloads, attached.
    *
    * @param sagaName the saga name
    * @param userName the user name
@@ -187,20 +279,27 @@ public class SagaService {
    */
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public List<Saga> createMultipleBatchSagaRecordsInDB(final String sagaName, final String userName, final List<Pair<UUID, String>> payloads) {
-    final List<Saga> sagas = new ArrayList<>();
-    payloads.forEach(payloadPair -> sagas.add(
-      Saga.builder()
+    final List<Saga> sagas = new ArrayList<>(payloads.size());
+    final var now = LocalDateTime.now();
+    for (final var payloadPair : payloads) {
+      final var saga = Saga.builder()
         .payload(payloadPair.getSecond())
         .studentID(payloadPair.getFirst())
         .sagaName(sagaName)
         .status(STARTED.toString())
         .sagaState(INITIATED.toString())
-        .createDate(LocalDateTime.now())
+        .createDate(now)
         .createUser(userName)
         .updateUser(userName)
-        .updateDate(LocalDateTime.now())
-        .build()));
-
-    return this.getSagaRepository().saveAll(sagas);
+        .updateDate(now)
+        .build();
+      this.getEntityManager().persist(saga);
+      sagas.add(saga);
+      if (sagas.size() % this.getBatchSize() == 0) {
+        this.getEntityManager().flush();
+        this.getEntityManager().clear();
+      }
+    }
+    return sagas;
   }
 }
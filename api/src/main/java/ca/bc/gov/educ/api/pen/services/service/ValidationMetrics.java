@@ -0,0 +1,142 @@
+package ca.bc.gov.educ.api.pen.services.service;
+
+import ca.bc.gov.educ.api.pen.services.rules.Rule;
+import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
+import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode.ERROR;
+import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode.WARNING;
+
+/**
+ * The Micrometer meters of the student record validation, exposed through the prometheus actuator endpoint.
+ * <pre>
+ *  pen.validation.rule.duration    timer per rule, tagged by rule, mode (interactive/batch) and outcome (NONE/WARNING/ERROR/EXCEPTION)
+ *  pen.validation.rule.issues      counter of the issues reported per rule, tagged by rule, mode and severity (WARNING/ERROR)
+ *  pen.validation.record.duration  timer per student record, tagged by mode
+ * </pre>
+ * every meter is registered up front, so recording is an array lookup rather than a registry lookup per call.
+ */
+class ValidationMetrics {
+
+  private static final String[] MODES = {"batch", "interactive"};
+  private static final String[] OUTCOMES = {"NONE", WARNING.toString(), ERROR.toString(), "EXCEPTION"};
+  private static final int OUTCOME_NONE = 0;
+  private static final int OUTCOME_WARNING = 1;
+  private static final int OUTCOME_ERROR = 2;
+  private static final int OUTCOME_EXCEPTION = 3;
+  private static final Duration[] DURATION_BUCKETS = {Duration.ofNanos(10_000), Duration.ofNanos(50_000), Duration.ofNanos(100_000), Duration.ofNanos(500_000),
+      Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofSeconds(1)};
+
+  /**
+   * The rule timers, by rule index, mode and outcome.
+   */
+  private final Timer[][][] ruleTimers;
+
+  /**
+   * The issue counters, by rule index, mode and severity (warning then error).
+   */
+  private final Counter[][][] issueCounters;
+
+  /**
+   * The record timers, by mode.
+   */
+  private final Timer[] recordTimers;
+
+  /**
+   * Instantiates a new Validation metrics.
+   *
+   * @param meterRegistry the meter registry
+   * @param rules         the rules in their configured order
+   */
+  ValidationMetrics(final MeterRegistry meterRegistry, final List<Rule> rules) {
+    this.ruleTimers = new Timer[rules.size()][MODES.length][OUTCOMES.length];
+    this.issueCounters = new Counter[rules.size()][MODES.length][2];
+    this.recordTimers = new Timer[MODES.length];
+    for (int mode = 0; mode < MODES.length; mode++) {
+      this.recordTimers[mode] = Timer.builder("pen.validation.record.duration")
+          .description("The time taken to validate a student record.")
+          .tag("mode", MODES[mode])
+          .serviceLevelObjectives(DURATION_BUCKETS)
+          .register(meterRegistry);
+      for (int rule = 0; rule < rules.size(); rule++) {
+        final String ruleName = rules.get(rule).getClass().getSimpleName();
+        for (int outcome = 0; outcome < OUTCOMES.length; outcome++) {
+          this.ruleTimers[rule][mode][outcome] = Timer.builder("pen.validation.rule.duration")
+              .description("The time taken by a validation rule.")
+              .tags("rule", ruleName, "mode", MODES[mode], "outcome", OUTCOMES[outcome])
+              .serviceLevelObjectives(DURATION_BUCKETS)
+              .register(meterRegistry);
+        }
+        this.issueCounters[rule][mode][0] = this.issueCounter(meterRegistry, ruleName, MODES[mode], WARNING.toString());
+        this.issueCounters[rule][mode][1] = this.issueCounter(meterRegistry, ruleName, MODES[mode], ERROR.toString());
+      }
+    }
+  }
+
+  /**
+   * Evaluate a rule, recording its duration and issues.
+   *
+   * @param ruleIndex         the index of the rule in the configured order
+   * @param rule              the rule
+   * @param validationPayload the validation payload
+   * @return the issues reported by the rule
+   */
+  List<PenRequestStudentValidationIssue> validate(final int ruleIndex, final Rule rule, final PenRequestStudentValidationPayload validationPayload) {
+    final int mode = modeOf(validationPayload);
+    final long start = System.nanoTime();
+    final List<PenRequestStudentValidationIssue> results;
+    try {
+      results = rule.validate(validationPayload);
+    } catch (final RuntimeException e) {
+      this.ruleTimers[ruleIndex][mode][OUTCOME_EXCEPTION].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw e;
+    }
+    final long elapsed = System.nanoTime() - start;
+    int warnings = 0;
+    int errors = 0;
+    for (final var issue : results) {
+      if (ERROR.toString().equals(issue.getPenRequestBatchValidationIssueSeverityCode())) {
+        errors++;
+      } else if (WARNING.toString().equals(issue.getPenRequestBatchValidationIssueSeverityCode())) {
+        warnings++;
+      }
+    }
+    final int outcome = errors > 0 ? OUTCOME_ERROR : (warnings > 0 ? OUTCOME_WARNING : OUTCOME_NONE);
+    this.ruleTimers[ruleIndex][mode][outcome].record(elapsed, TimeUnit.NANOSECONDS);
+    if (warnings > 0) {
+      this.issueCounters[ruleIndex][mode][0].increment(warnings);
+    }
+    if (errors > 0) {
+      this.issueCounters[ruleIndex][mode][1].increment(errors);
+    }
+    return results;
+  }
+
+  /**
+   * Record the validation of a whole student record.
+   *
+   * @param validationPayload the validation payload
+   * @param elapsedNanos      the elapsed nanos
+   */
+  void recordValidation(final PenRequestStudentValidationPayload validationPayload, final long elapsedNanos) {
+    this.recordTimers[modeOf(validationPayload)].record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private Counter issueCounter(final MeterRegistry meterRegistry, final String ruleName, final String mode, final String severity) {
+    return Counter.builder("pen.validation.rule.issues")
+        .description("The issues reported by a validation rule.")
+        .tags("rule", ruleName, "mode", mode, "severity", severity)
+        .register(meterRegistry);
+  }
+
+  private static int modeOf(final PenRequestStudentValidationPayload validationPayload) {
+    return validationPayload.getIsInteractive() ? 1 : 0;
+  }
+}
@@ -10,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -58,12 +57,11 @@ public class EventHandlerDelegatorService {
   }
 
   /**
-   * Handle event.
+   * Handle event, called on the executor of the event's lane by the message subscriber.
    *
    * @param event   the event
    * @param message the message
    */
-  @Async("subscriberExecutor")
   public void handleEvent(final Event event, final Message message) {
     final boolean isSynchronous = message.getReplyTo() != null;
     final byte[] response;
@@ -76,12 +74,24 @@ public class EventHandlerDelegatorService {
           response = this.getEventHandlerService().handleValidateStudentDemogDataEvent(event);
           this.publishToNATS(event, message, isSynchronous, response);
           break;
+        case VALIDATE_STUDENT_DEMOGRAPHICS_BATCH:
+          log.debug("received validate student demographics batch event :: ");
+          log.trace(PAYLOAD_LOG, event.getEventPayload());
+          response = this.getEventHandlerService().handleValidateStudentDemogDataBatchEvent(event);
+          this.publishToNATS(event, message, isSynchronous, response);
+          break;
         case GET_NEXT_PEN_NUMBER:
           log.debug("received get next pen number event :: ");
           log.trace(PAYLOAD_LOG, event.getEventPayload());
           response = this.getEventHandlerService().handleGetNextPenNumberEvent(event);
           this.publishToNATS(event, message, isSynchronous, response);
           break;
+        case GET_NEXT_PEN_NUMBER_BATCH:
+          log.debug("received get next pen number batch event :: ");
+          log.trace(PAYLOAD_LOG, event.getEventPayload());
+          response = this.getEventHandlerService().handleGetNextPenNumberBatchEvent(event);
+          this.publishToNATS(event, message, isSynchronous, response);
+          break;
         case CREATE_MERGE:
           log.debug("received create merge data :: {}", event.getSagaId());
           log.trace(PAYLOAD_LOG, event.getEventPayload());
@@ -14,8 +14,8 @@ import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayl
 import ca.bc.gov.educ.api.pen.services.struct.v1.StudentMerge;
 import ca.bc.gov.educ.api.pen.services.util.JsonUtil;
 import ca.bc.gov.educ.api.pen.services.util.RequestUtil;
+import ca.bc.gov.educ.api.pen.services.validator.BatchRequestValidator;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -71,22 +71,25 @@ public class EventHandlerService {
   private final StudentMergeService studentMergeService;
 
   /**
-   * The Ob mapper.
+   * The Batch request validator.
    */
-  private final ObjectMapper obMapper = new ObjectMapper();
+  @Getter(PRIVATE)
+  private final BatchRequestValidator batchRequestValidator;
 
   /**
    * Instantiates a new Event handler service.
    *
-   * @param validationService   the validation service
-   * @param penService          the pen service
-   * @param studentMergeService the student merge
+   * @param validationService     the validation service
+   * @param penService            the pen service
+   * @param studentMergeService   the student merge
+   * @param batchRequestValidator the batch request validator
    */
   @Autowired
-  public EventHandlerService(final PenRequestStudentRecordValidationService validationService, final PenService penService, final StudentMergeService studentMergeService) {
+  public EventHandlerService(final PenRequestStudentRecordValidationService validationService, final PenService penService, final StudentMergeService studentMergeService, final BatchRequestValidator batchRequestValidator) {
     this.validationService = validationService;
     this.penService = penService;
     this.studentMergeService = studentMergeService;
+    this.batchRequestValidator = batchRequestValidator;
   }
 
   /**
@@ -123,7 +126,67 @@ public class EventHandlerService {
     if (log.isDebugEnabled()) {
       log.debug(RESPONDING_BACK, newEvent);
     }
-    return this.obMapper.writeValueAsBytes(newEvent);
+    return JsonUtil.getJsonBytesFromObject(newEvent);
+  }
+
+  /**
+   * Handle validate student demog data batch event.
+   * the payload is a json array of {@link PenRequestStudentValidationPayload}, the response payload is a json object of transaction ID to the list of issues.
+   * a batch which the REST endpoint would reject with bad request is answered with {@link EventOutcome#BATCH_REJECTED} instead.
+   *
+   * @param event the event
+   * @return the byte [ ]
+   * @throws JsonProcessingException the json processing exception
+   */
+  @Transactional(propagation = REQUIRES_NEW)
+  public byte[] handleValidateStudentDemogDataBatchEvent(@NonNull final Event event) throws JsonProcessingException {
+    final List<PenRequestStudentValidationPayload> validationPayloads = JsonUtil.getJsonListFromString(PenRequestStudentValidationPayload.class, event.getEventPayload());
+    try {
+      this.getBatchRequestValidator().validateStudentValidationBatch(validationPayloads);
+    } catch (final IllegalArgumentException e) {
+      return this.rejectBatch(event, e);
+    }
+    final var results = this.getValidationService().validateStudentRecords(validationPayloads);
+    final var issues = results.values().stream().flatMap(List::stream).toList();
+    final EventOutcome eventOutcome;
+    if (issues.isEmpty()) {
+      eventOutcome = VALIDATION_SUCCESS_NO_ERROR_WARNING;
+    } else if (issues.stream().anyMatch(x -> x.getPenRequestBatchValidationIssueSeverityCode().equals(PenRequestStudentValidationIssueSeverityCode.ERROR.toString()))) {
+      eventOutcome = VALIDATION_SUCCESS_WITH_ERROR;
+    } else {
+      eventOutcome = VALIDATION_SUCCESS_WITH_ONLY_WARNING;
+    }
+
+    final Event newEvent = Event.builder()
+        .sagaId(event.getSagaId())
+        .eventType(event.getEventType())
+        .eventOutcome(eventOutcome)
+        .eventPayload(JsonUtil.getJsonStringFromObject(results)).build();
+    if (log.isDebugEnabled()) {
+      log.debug(RESPONDING_BACK, newEvent);
+    }
+    return JsonUtil.getJsonBytesFromObject(newEvent);
+  }
+
+  /**
+   * Respond to a batch event with {@link EventOutcome#BATCH_REJECTED} and the reason as payload.
+   *
+   * @param event the event
+   * @param e     the reason the batch was rejected
+   * @return the byte [ ]
+   * @throws JsonProcessingException the json processing exception
+   */
+  private byte[] rejectBatch(final Event event, final IllegalArgumentException e) throws JsonProcessingException {
+    log.warn("rejecting batch event :: {} :: {}", event.getEventType(), e.getMessage());
+    final Event newEvent = Event.builder()
+        .sagaId(event.getSagaId())
+        .eventType(event.getEventType())
+        .eventOutcome(BATCH_REJECTED)
+        .eventPayload(e.getMessage()).build();
+    if (log.isDebugEnabled()) {
+      log.debug(RESPONDING_BACK, newEvent);
+    }
+    return JsonUtil.getJsonBytesFromObject(newEvent);
   }
 
   /**
@@ -146,7 +209,37 @@ public class EventHandlerService {
     if (log.isDebugEnabled()) {
       log.debug(RESPONDING_BACK, newEvent);
     }
-    return this.obMapper.writeValueAsBytes(newEvent);
+    return JsonUtil.getJsonBytesFromObject(newEvent);
+  }
+
+  /**
+   * Handle get next PEN number batch event.
+   * the payload is a json array of transaction IDs, the response payload is a json object of transaction ID to PEN.
+   * a batch which the REST endpoint would reject with bad request is answered with {@link EventOutcome#BATCH_REJECTED} instead.
+   *
+   * @param event the event
+   * @return the byte [ ]
+   * @throws JsonProcessingException the json processing exception
+   */
+  @Transactional(propagation = REQUIRES_NEW)
+  public byte[] handleGetNextPenNumberBatchEvent(@NonNull final Event event) throws JsonProcessingException {
+    final List<String> transactionIDs = JsonUtil.getJsonListFromString(String.class, event.getEventPayload());
+    try {
+      this.getBatchRequestValidator().validatePenNumberBatch(transactionIDs);
+    } catch (final IllegalArgumentException e) {
+      return this.rejectBatch(event, e);
+    }
+    final var nextPenNumbers = this.getPenService().getNextPenNumbers(transactionIDs);
+
+    final Event newEvent = Event.builder()
+        .sagaId(event.getSagaId())
+        .eventType(event.getEventType())
+        .eventOutcome(NEXT_PEN_NUMBER_RETRIEVED)
+        .eventPayload(JsonUtil.getJsonStringFromObject(nextPenNumbers)).build();
+    if (log.isDebugEnabled()) {
+      log.debug(RESPONDING_BACK, newEvent);
+    }
+    return JsonUtil.getJsonBytesFromObject(newEvent);
   }
 
   /**
@@ -177,7 +270,7 @@ public class EventHandlerService {
     if (log.isDebugEnabled()) {
       log.debug(RESPONDING_BACK, newEvent);
     }
-    return Pair.of(this.obMapper.writeValueAsBytes(newEvent), pair.getRight());
+    return Pair.of(JsonUtil.getJsonBytesFromObject(newEvent), pair.getRight());
   }
 
   /**
@@ -228,7 +321,7 @@ public class EventHandlerService {
     if (log.isDebugEnabled()) {
       log.debug(RESPONDING_BACK, newEvent);
     }
-    return Pair.of(this.obMapper.writeValueAsBytes(newEvent), pair.getRight());
+    return Pair.of(JsonUtil.getJsonBytesFromObject(newEvent), pair.getRight());
   }
 
   @Transactional(propagation = REQUIRES_NEW)
@@ -244,7 +337,7 @@ public class EventHandlerService {
     if (log.isDebugEnabled()) {
       log.debug(RESPONDING_BACK, newEvent);
     }
-    return this.obMapper.writeValueAsBytes(newEvent);
+    return JsonUtil.getJsonBytesFromObject(newEvent);
   }
 
   @Transactional(propagation = REQUIRES_NEW)
@@ -274,7 +367,7 @@ public class EventHandlerService {
     if (log.isDebugEnabled()) {
       log.debug(RESPONDING_BACK, newEvent);
     }
-    return this.obMapper.writeValueAsBytes(newEvent);
+    return JsonUtil.getJsonBytesFromObject(newEvent);
   }
 
 }
@@ -0,0 +1,233 @@
+package ca.bc.gov.educ.api.pen.services.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.jboss.threads.EnhancedQueueExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A thread pool with a bounded queue. once the queue is full the task runs on the submitting thread, so a NATS
+ * dispatcher handing over messages faster than they are processed is slowed down instead of the queue growing without limit.
+ * with {@link Overflow#BLOCK} the submitting thread waits for a free slot instead, for submitting threads which must not run
+ * the tasks themselves but still have to be slowed down.
+ * <pre>
+ *  executor.queued            gauge, the tasks waiting in the queue
+ *  executor.queue.remaining   gauge, the free slots in the queue
+ *  executor.active            gauge, the tasks running, including the ones run by the submitting thread
+ *  executor.pool.size         gauge, the threads of the pool
+ *  executor.queue.wait        timer, the time a task waited before it started
+ *  executor.caller.runs       counter, the tasks run by the submitting thread because the queue was full
+ *  executor.blocked           counter, the tasks whose submitting thread waited for a free slot
+ * </pre>
+ * every meter is tagged with the name of the executor.
+ */
+@Slf4j
+public class BoundedExecutor implements Executor {
+
+  /**
+   * What happens to a task submitted while the queue is full.
+   */
+  public enum Overflow {
+    /**
+     * The task runs on the submitting thread.
+     */
+    CALLER_RUNS,
+    /**
+     * The submitting thread waits until a task finishes, nothing is dropped or run on the submitting thread.
+     */
+    BLOCK
+  }
+
+  /**
+   * The name.
+   */
+  private final String name;
+
+  /**
+   * The executor the tasks are handed to.
+   */
+  private final EnhancedQueueExecutor delegate;
+
+  /**
+   * The tasks running.
+   */
+  private final AtomicInteger activeTasks = new AtomicInteger();
+
+  /**
+   * The queue wait timer.
+   */
+  private final Timer queueWaitTimer;
+
+  /**
+   * The caller runs counter.
+   */
+  private final Counter callerRunsCounter;
+
+  /**
+   * The blocked counter.
+   */
+  private final Counter blockedCounter;
+
+  /**
+   * The maximum number of queued tasks.
+   */
+  private final int queueSize;
+
+  /**
+   * The slots of the running and queued tasks in {@link Overflow#BLOCK} mode, null otherwise. the delegate queue has room
+   * for every slot, so a task is never handed off.
+   */
+  private final Semaphore slots;
+
+  /**
+   * Instantiates a new Bounded executor.
+   *
+   * @param name          the name, used for the thread names and the meter tags
+   * @param threads       the number of threads
+   * @param queueSize     the maximum number of queued tasks
+   * @param meterRegistry the meter registry
+   */
+  public BoundedExecutor(final String name, final int threads, final int queueSize, final MeterRegistry meterRegistry) {
+    this(name, threads, threads, queueSize, meterRegistry);
+  }
+
+  /**
+   * Instantiates a new Bounded executor whose pool grows past the core threads when they are all busy, a task is queued
+   * only once the pool is at its maximum.
+   *
+   * @param name          the name, used for the thread names and the meter tags
+   * @param coreThreads   the number of threads kept
+   * @param maxThreads    the maximum number of threads, the ones above the core retire after a minute idle
+   * @param queueSize     the maximum number of queued tasks
+   * @param meterRegistry the meter registry
+   */
+  public BoundedExecutor(final String name, final int coreThreads, final int maxThreads, final int queueSize, final MeterRegistry meterRegistry) {
+    this(name, coreThreads, maxThreads, queueSize, Overflow.CALLER_RUNS, meterRegistry);
+  }
+
+  /**
+   * Instantiates a new Bounded executor whose pool grows past the core threads when they are all busy, a task is queued
+   * only once the pool is at its maximum.
+   *
+   * @param name          the name, used for the thread names and the meter tags
+   * @param coreThreads   the number of threads kept
+   * @param maxThreads    the maximum number of threads, the ones above the core retire after a minute idle
+   * @param queueSize     the maximum number of queued tasks
+   * @param overflow      what happens to a task submitted while the queue is full
+   * @param meterRegistry the meter registry
+   */
+  public BoundedExecutor(final String name, final int coreThreads, final int maxThreads, final int queueSize, final Overflow overflow, final MeterRegistry meterRegistry) {
+    if (coreThreads < 1 || maxThreads < coreThreads || queueSize < 1) {
+      throw new IllegalArgumentException("Executor " + name + " needs at least one thread, a maximum not below the core threads and one queue slot.");
+    }
+    this.name = name;
+    this.queueSize = queueSize;
+    this.slots = overflow == Overflow.BLOCK ? new Semaphore(maxThreads + queueSize) : null;
+    this.delegate = new EnhancedQueueExecutor.Builder().setThreadFactory(new ThreadFactoryBuilder().withNameFormat(name + "-%d").get())
+        .setCorePoolSize(coreThreads)
+        .setMaximumPoolSize(maxThreads)
+        .setKeepAliveTime(Duration.ofSeconds(60))
+        .setMaximumQueueSize(overflow == Overflow.BLOCK ? maxThreads + queueSize : queueSize)
+        .setHandoffExecutor(this::runOnCaller)
+        .build();
+    this.queueWaitTimer = Timer.builder("executor.queue.wait")
+        .description("The time a task waited in the queue before it started.")
+        .tag("name", name)
+        .register(meterRegistry);
+    this.callerRunsCounter = Counter.builder("executor.caller.runs")
+        .description("The tasks run by the submitting thread because the queue was full.")
+        .tag("name", name)
+        .register(meterRegistry);
+    this.blockedCounter = Counter.builder("executor.blocked")
+        .description("The tasks whose submitting thread waited for a free slot.")
+        .tag("name", name)
+        .register(meterRegistry);
+    Gauge.builder("executor.queued", this.delegate, EnhancedQueueExecutor::getQueueSize)
+        .description("The tasks waiting in the queue.")
+        .tag("name", name)
+        .register(meterRegistry);
+    Gauge.builder("executor.queue.remaining", this.delegate, executor -> Math.max(0, this.queueSize - executor.getQueueSize()))
+        .description("The free slots in the queue.")
+        .tag("name", name)
+        .register(meterRegistry);
+    Gauge.builder("executor.active", this.activeTasks, AtomicInteger::get)
+        .description("The tasks running.")
+        .tag("name", name)
+        .register(meterRegistry);
+    Gauge.builder("executor.pool.size", this.delegate, EnhancedQueueExecutor::getPoolSize)
+        .description("The threads of the pool.")
+        .tag("name", name)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void execute(final Runnable task) {
+    if (this.slots == null) {
+      this.submit(task);
+      return;
+    }
+    if (!this.slots.tryAcquire()) {
+      this.blockedCounter.increment();
+      log.debug("Executor {} is full, {} waits for a free slot", this.name, Thread.currentThread().getName());
+      this.slots.acquireUninterruptibly();
+    }
+    try {
+      this.submit(() -> {
+        try {
+          task.run();
+        } finally {
+          this.slots.release();
+        }
+      });
+    } catch (final RuntimeException e) {
+      this.slots.release();
+      throw e;
+    }
+  }
+
+  private void submit(final Runnable task) {
+    final long submittedAt = System.nanoTime();
+    this.delegate.execute(() -> {
+      this.queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+      this.activeTasks.incrementAndGet();
+      try {
+        task.run();
+      } finally {
+        this.activeTasks.decrementAndGet();
+      }
+    });
+  }
+
+  /**
+   * Shutdown, the queued tasks still run.
+   */
+  public void shutdown() {
+    this.delegate.shutdown();
+  }
+
+  /**
+   * Wait for the queued and running tasks to finish after a shutdown.
+   *
+   * @param timeout the timeout
+   * @param unit    the unit
+   * @return true if the executor terminated, false if the timeout elapsed
+   * @throws InterruptedException the interrupted exception
+   */
+  public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+    return this.delegate.awaitTermination(timeout, unit);
+  }
+
+  private void runOnCaller(final Runnable task) {
+    this.callerRunsCounter.increment();
+    log.debug("Queue of executor {} is full, running the task on {}", this.name, Thread.currentThread().getName());
+    task.run();
+  }
+}
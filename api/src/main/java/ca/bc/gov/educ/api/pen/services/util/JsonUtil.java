@@ -2,20 +2,52 @@ package ca.bc.gov.educ.api.pen.services.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type Json util.
+ * one mapper is configured once and shared, readers are cached per target type so every message reuses the same
+ * deserializers instead of building a mapper and introspecting the type again. mappers, readers and writers are thread safe.
  *
  * @author OM
  */
 @Slf4j
 public class JsonUtil {
+  /**
+   * The shared mapper.
+   */
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  /**
+   * The writer of {@link #getJsonStringFromObject(Object)}, dates as ISO strings.
+   */
+  private static final ObjectWriter STRING_WRITER = MAPPER.writer().without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  /**
+   * The writer of {@link #getJsonBytesFromObject(Object)} and {@link #getJsonString(Object)}, with the mapper defaults.
+   */
+  private static final ObjectWriter WRITER = MAPPER.writer();
+
+  /**
+   * The readers, by target class.
+   */
+  private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+  /**
+   * The readers of json arrays, by element class.
+   */
+  private static final Map<Class<?>, ObjectReader> LIST_READERS = new ConcurrentHashMap<>();
+
   /**
    * Instantiates a new Json util.
    */
@@ -30,10 +62,7 @@ public class JsonUtil {
    * @throws JsonProcessingException the json processing exception
    */
   public static String getJsonStringFromObject(final Object payload) throws JsonProcessingException {
-    final var mapper = new ObjectMapper();
-    mapper.registerModule(new JavaTimeModule());
-    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-    return mapper.writeValueAsString(payload);
+    return STRING_WRITER.writeValueAsString(payload);
   }
 
   /**
@@ -46,7 +75,21 @@ public class JsonUtil {
    * @throws JsonProcessingException the json processing exception
    */
   public static <T> T getJsonObjectFromString(final Class<T> clazz, final String payload) throws JsonProcessingException {
-    return new ObjectMapper().readValue(payload, clazz);
+    return reader(clazz).readValue(payload);
+  }
+
+  /**
+   * Gets json list from string.
+   *
+   * @param <T>          the type parameter
+   * @param elementClass the element clazz
+   * @param payload      the json array
+   * @return the json list from string
+   * @throws JsonProcessingException the json processing exception
+   */
+  public static <T> List<T> getJsonListFromString(final Class<T> elementClass, final String payload) throws JsonProcessingException {
+    return LIST_READERS.computeIfAbsent(elementClass, clazz -> MAPPER.readerFor(MAPPER.getTypeFactory().constructCollectionType(List.class, clazz)))
+        .readValue(payload);
   }
 
   /**
@@ -59,7 +102,7 @@ public class JsonUtil {
    * @throws IOException the io exception
    */
   public static <T> T getJsonObjectFromByteArray(final Class<T> clazz, final byte[] payload) throws IOException {
-    return new ObjectMapper().readValue(payload, clazz);
+    return reader(clazz).readValue(payload);
   }
 
   /**
@@ -70,7 +113,7 @@ public class JsonUtil {
    * @throws JsonProcessingException the json processing exception
    */
   public static byte[] getJsonBytesFromObject(final Object payload) throws JsonProcessingException {
-    return new ObjectMapper().writeValueAsBytes(payload);
+    return WRITER.writeValueAsBytes(payload);
   }
 
   /**
@@ -81,10 +124,14 @@ public class JsonUtil {
    */
   public static Optional<String> getJsonString(final Object payload) {
     try {
-      return Optional.ofNullable(new ObjectMapper().writeValueAsString(payload));
+      return Optional.ofNullable(WRITER.writeValueAsString(payload));
     } catch (final Exception ex) {
       log.error("Exception while converting object to JSON String :: {}", payload);
     }
     return Optional.empty();
   }
+
+  private static ObjectReader reader(final Class<?> clazz) {
+    return READERS.computeIfAbsent(clazz, MAPPER::readerFor);
+  }
 }
@@ -0,0 +1,151 @@
+package ca.bc.gov.educ.api.pen.services.util;
+
+/**
+ * The PEN check digit util, the single implementation of the mod 10 check digit used both to allocate and to validate PENs.
+ * <pre>
+ *  the original PEN number is 746282656
+ *  1. First 8 digits are 74628265
+ *  2. Sum the odd digits: 7 + 6 + 8 + 6 = 27 (S1)
+ *  3. Extract the even digits 4,2,2,5 to get A = 4225.
+ *  4. Multiply A times 2 to get B = 8450
+ *  5. Sum the digits of B: 8 + 4 + 5 + 0 = 17 (S2)
+ *  6. 27 + 17 = 44 (S3)
+ *  7. S3 is not a multiple of 10
+ *  8. Calculate check-digit as 10 - MOD(S3,10): 10 - MOD(44,10) = 10 - 4 = 6
+ * </pre>
+ * doubling a digit d carries exactly when d is 5 or more, whatever the carry coming in, so the digit sum of B is the sum of
+ * the digit sums of each doubled even digit. that lets the check digit be computed digit by digit with int arithmetic only,
+ * without building the intermediate numbers or strings.
+ */
+public final class PenCheckDigitUtil {
+
+  /**
+   * The length of a PEN, including the check digit.
+   */
+  public static final int PEN_LENGTH = 9;
+
+  /**
+   * The digit sum of each digit doubled, indexed by the digit.
+   */
+  private static final int[] DOUBLED_DIGIT_SUM = {0, 2, 4, 6, 8, 1, 3, 5, 7, 9};
+
+  /**
+   * Instantiates a new pen check digit util.
+   */
+  private PenCheckDigitUtil() {
+  }
+
+  /**
+   * Calculate the check digit of the given digits.
+   *
+   * @param penWithoutCheckDigit the pen without check digit, digits only
+   * @return the check digit
+   * @throws IllegalArgumentException if the value is empty or contains anything but the digits 0 to 9
+   */
+  public static int calculateCheckDigit(final CharSequence penWithoutCheckDigit) {
+    final int length = penWithoutCheckDigit.length();
+    if (length == 0) {
+      throw new IllegalArgumentException("PEN without check digit must not be empty.");
+    }
+    int sum = 0;
+    for (int i = 0; i < length; i++) {
+      final int digit = penWithoutCheckDigit.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        throw new IllegalArgumentException("PEN without check digit must contain digits only :: " + penWithoutCheckDigit);
+      }
+      sum += weigh(digit, i);
+    }
+    return toCheckDigit(sum);
+  }
+
+  /**
+   * Calculate the check digit of the decimal digits of the given number, same result as the calculation on
+   * {@code String.valueOf(penWithoutCheckDigit)}.
+   *
+   * @param penWithoutCheckDigit the pen without check digit
+   * @return the check digit
+   * @throws IllegalArgumentException if the number is negative
+   */
+  public static int calculateCheckDigit(final long penWithoutCheckDigit) {
+    if (penWithoutCheckDigit < 0) {
+      throw new IllegalArgumentException("PEN without check digit must not be negative :: " + penWithoutCheckDigit);
+    }
+    int length = 1;
+    for (long remaining = penWithoutCheckDigit / 10; remaining > 0; remaining /= 10) {
+      length++;
+    }
+    int sum = 0;
+    long remaining = penWithoutCheckDigit;
+    for (int i = length - 1; i >= 0; i--) {
+      sum += weigh((int) (remaining % 10), i);
+      remaining /= 10;
+    }
+    return toCheckDigit(sum);
+  }
+
+  /**
+   * Is the value a nine digit PEN with a valid check digit.
+   *
+   * @param pen the pen, null is invalid
+   * @return the boolean
+   */
+  public static boolean isValidPen(final CharSequence pen) {
+    if (pen == null || pen.length() != PEN_LENGTH) {
+      return false;
+    }
+    int sum = 0;
+    for (int i = 0; i < PEN_LENGTH - 1; i++) {
+      final int digit = pen.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return false;
+      }
+      sum += weigh(digit, i);
+    }
+    return pen.charAt(PEN_LENGTH - 1) - '0' == toCheckDigit(sum);
+  }
+
+  /**
+   * Validate the PENs in bulk.
+   *
+   * @param pens the pens
+   * @return the validity of each pen, at the same index
+   */
+  public static boolean[] areValidPens(final CharSequence[] pens) {
+    final boolean[] results = new boolean[pens.length];
+    areValidPens(pens, results);
+    return results;
+  }
+
+  /**
+   * Validate the PENs in bulk into a caller supplied array, so repeated calls can reuse it.
+   *
+   * @param pens    the pens
+   * @param results the validity of each pen, at the same index, must be at least as long as the pens
+   * @return the number of invalid pens
+   */
+  public static int areValidPens(final CharSequence[] pens, final boolean[] results) {
+    if (results.length < pens.length) {
+      throw new IllegalArgumentException("Results array is shorter than the PENs array.");
+    }
+    int invalid = 0;
+    for (int i = 0; i < pens.length; i++) {
+      results[i] = isValidPen(pens[i]);
+      if (!results[i]) {
+        invalid++;
+      }
+    }
+    return invalid;
+  }
+
+  /**
+   * The contribution of a digit to the sum, the odd positions (counted from one) as is and the even positions doubled.
+   */
+  private static int weigh(final int digit, final int index) {
+    return (index & 1) == 0 ? digit : DOUBLED_DIGIT_SUM[digit];
+  }
+
+  private static int toCheckDigit(final int sum) {
+    final int remainder = sum % 10;
+    return remainder == 0 ? 0 : 10 - remainder;
+  }
+}
@@ -0,0 +1,163 @@
+package ca.bc.gov.educ.api.pen.services.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An executor running the tasks of the same key one after the other, in submission order, and the tasks of different keys
+ * in parallel. every key is mapped by its hash to one of a fixed number of stripes, each a single thread with its own queue,
+ * so two keys may share a stripe but a key never runs on two threads at once.
+ * <p>
+ * once the queue of a stripe is full the submitting thread waits for a free slot, running the task on the submitting thread
+ * instead would break the ordering of its key.
+ * <p>
+ * a stripe can let its thread retire once idle for a keep alive time, the next task of the stripe starts a new one, so many
+ * stripes only cost the threads of the stripes that have work.
+ * <pre>
+ *  executor.queued            gauge, the tasks waiting in the queues of all the stripes
+ *  executor.queue.remaining   gauge, the free slots in the queues of all the stripes
+ *  executor.active            gauge, the stripes running a task
+ *  executor.pool.size         gauge, the threads of the stripes
+ *  executor.queue.wait        timer, the time a task waited before it started
+ *  executor.blocked           counter, the tasks whose submitting thread waited for a free slot
+ * </pre>
+ * every meter is tagged with the name of the executor, the same meters as the ones of {@link BoundedExecutor}.
+ */
+public class StripedExecutor {
+
+  /**
+   * The stripes.
+   */
+  private final ThreadPoolExecutor[] stripes;
+
+  /**
+   * The queue wait timer.
+   */
+  private final Timer queueWaitTimer;
+
+  /**
+   * The blocked counter.
+   */
+  private final Counter blockedCounter;
+
+  /**
+   * Instantiates a new Striped executor.
+   *
+   * @param name            the name, used for the thread names and the meter tags
+   * @param stripes         the number of stripes, that is threads
+   * @param stripeQueueSize the maximum number of queued tasks of each stripe
+   * @param meterRegistry   the meter registry
+   */
+  public StripedExecutor(final String name, final int stripes, final int stripeQueueSize, final MeterRegistry meterRegistry) {
+    this(name, stripes, stripeQueueSize, Duration.ZERO, meterRegistry);
+  }
+
+  /**
+   * Instantiates a new Striped executor whose idle stripe threads retire.
+   *
+   * @param name            the name, used for the thread names and the meter tags
+   * @param stripes         the number of stripes, that is threads
+   * @param stripeQueueSize the maximum number of queued tasks of each stripe
+   * @param keepAlive       the time a stripe thread is kept idle before it retires, zero keeps it for ever
+   * @param meterRegistry   the meter registry
+   */
+  public StripedExecutor(final String name, final int stripes, final int stripeQueueSize, final Duration keepAlive, final MeterRegistry meterRegistry) {
+    if (stripes < 1 || stripeQueueSize < 1) {
+      throw new IllegalArgumentException("Executor " + name + " needs at least one stripe and one queue slot per stripe.");
+    }
+    final ThreadFactory threadFactory = new ThreadFactoryBuilder().withNameFormat(name + "-%d").get();
+    this.stripes = new ThreadPoolExecutor[stripes];
+    this.queueWaitTimer = Timer.builder("executor.queue.wait")
+        .description("The time a task waited in the queue before it started.")
+        .tag("name", name)
+        .register(meterRegistry);
+    this.blockedCounter = Counter.builder("executor.blocked")
+        .description("The tasks whose submitting thread waited for a free slot.")
+        .tag("name", name)
+        .register(meterRegistry);
+    for (int i = 0; i < stripes; i++) {
+      this.stripes[i] = new ThreadPoolExecutor(1, 1, keepAlive.toMillis(), TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(stripeQueueSize), threadFactory, this::waitForQueue);
+      this.stripes[i].allowCoreThreadTimeOut(!keepAlive.isZero());
+    }
+    Gauge.builder("executor.queued", this.stripes, executors -> Arrays.stream(executors).mapToInt(executor -> executor.getQueue().size()).sum())
+        .description("The tasks waiting in the queues of all the stripes.")
+        .tag("name", name)
+        .register(meterRegistry);
+    Gauge.builder("executor.queue.remaining", this.stripes, executors -> Arrays.stream(executors).mapToInt(executor -> executor.getQueue().remainingCapacity()).sum())
+        .description("The free slots in the queues of all the stripes.")
+        .tag("name", name)
+        .register(meterRegistry);
+    Gauge.builder("executor.active", this.stripes, executors -> Arrays.stream(executors).mapToInt(ThreadPoolExecutor::getActiveCount).sum())
+        .description("The stripes running a task.")
+        .tag("name", name)
+        .register(meterRegistry);
+    Gauge.builder("executor.pool.size", this.stripes, executors -> Arrays.stream(executors).mapToInt(ThreadPoolExecutor::getPoolSize).sum())
+        .description("The threads of the stripes.")
+        .tag("name", name)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Execute the task after the tasks already submitted for the same key.
+   *
+   * @param key  the key, null is a key like any other
+   * @param task the task
+   * @throws RejectedExecutionException if the executor is shut down or the submitting thread is interrupted while the stripe is full
+   */
+  public void execute(final Object key, final Runnable task) {
+    final long submittedAt = System.nanoTime();
+    this.stripes[Math.floorMod(Objects.hashCode(key), this.stripes.length)].execute(() -> {
+      this.queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+      task.run();
+    });
+  }
+
+  /**
+   * Shutdown, the queued tasks still run.
+   */
+  public void shutdown() {
+    for (final var stripe : this.stripes) {
+      stripe.shutdown();
+    }
+  }
+
+  /**
+   * Wait for the queued and running tasks to finish after a shutdown.
+   *
+   * @param timeout the timeout, for each stripe
+   * @param unit    the unit
+   * @return true if every stripe terminated, false if a timeout elapsed
+   * @throws InterruptedException the interrupted exception
+   */
+  public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+    boolean terminated = true;
+    for (final var stripe : this.stripes) {
+      terminated &= stripe.awaitTermination(timeout, unit);
+    }
+    return terminated;
+  }
+
+  private void waitForQueue(final Runnable task, final ThreadPoolExecutor stripe) {
+    if (stripe.isShutdown()) {
+      throw new RejectedExecutionException("Executor is shut down.");
+    }
+    this.blockedCounter.increment();
+    try {
+      stripe.getQueue().put(task);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while waiting for a free slot.", e);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package ca.bc.gov.educ.api.pen.services.validator;
+
+import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Validates the batch requests which are accepted both over REST and NATS, so that both paths reject the same input.
+ */
+@Component
+public class BatchRequestValidator {
+
+  /**
+   * The maximum number of payloads in a single validation batch.
+   */
+  @Getter(PRIVATE)
+  private final int validationBatchMaxSize;
+
+  /**
+   * The maximum number of transaction IDs in a single next PEN number batch.
+   */
+  @Getter(PRIVATE)
+  private final int penNumberBatchMaxSize;
+
+  /**
+   * Instantiates a new Batch request validator.
+   *
+   * @param validationBatchMaxSize the validation batch max size
+   * @param penNumberBatchMaxSize  the next PEN number batch max size
+   */
+  public BatchRequestValidator(@Value("${validation.batch.max.size}") final int validationBatchMaxSize, @Value("${pen.number.batch.max.size}") final int penNumberBatchMaxSize) {
+    this.validationBatchMaxSize = validationBatchMaxSize;
+    this.penNumberBatchMaxSize = penNumberBatchMaxSize;
+  }
+
+  /**
+   * Validate a student demographics validation batch, every payload must carry a unique, non null transactionID.
+   *
+   * @param validationPayloads the validation payloads
+   * @throws IllegalArgumentException if the batch is too large or a transactionID is missing or repeated
+   */
+  public void validateStudentValidationBatch(final List<PenRequestStudentValidationPayload> validationPayloads) {
+    this.validateBatchSize(validationPayloads.size(), this.getValidationBatchMaxSize());
+    final Set<String> transactionIDs = new HashSet<>();
+    for (final var validationPayload : validationPayloads) {
+      if (validationPayload.getTransactionID() == null || !transactionIDs.add(validationPayload.getTransactionID())) {
+        throw new IllegalArgumentException("Every payload in the batch must have a unique transactionID :: " + validationPayload.getTransactionID());
+      }
+    }
+  }
+
+  /**
+   * Validate a next PEN number batch, every transactionID must be present and unique.
+   *
+   * @param transactionIDs the transaction IDs
+   * @throws IllegalArgumentException if the batch is too large or a transactionID is missing or repeated
+   */
+  public void validatePenNumberBatch(final Collection<?> transactionIDs) {
+    this.validateBatchSize(transactionIDs.size(), this.getPenNumberBatchMaxSize());
+    final Set<Object> uniqueTransactionIDs = new HashSet<>();
+    for (final var transactionID : transactionIDs) {
+      if (transactionID == null) {
+        throw new IllegalArgumentException("Every transactionID in the batch must be present.");
+      }
+      if (!uniqueTransactionIDs.add(transactionID)) {
+        throw new IllegalArgumentException("Every transactionID in the batch must be unique :: " + transactionID);
+      }
+    }
+  }
+
+  private void validateBatchSize(final int batchSize, final int maxSize) {
+    if (batchSize > maxSize) {
+      throw new IllegalArgumentException("The batch size " + batchSize + " exceeds the maximum of " + maxSize + ".");
+    }
+  }
+}
@@ -0,0 +1,8 @@
+ALTER TABLE API_PEN_VALIDATION.PEN_SERVICES_SAGA
+    ADD STEP_NUMBER NUMBER DEFAULT 0;
+
+UPDATE API_PEN_VALIDATION.PEN_SERVICES_SAGA SAGA
+SET STEP_NUMBER = (SELECT COUNT(*)
+                   FROM API_PEN_VALIDATION.PEN_SERVICES_SAGA_EVENT_STATES EVENT_STATES
+                   WHERE EVENT_STATES.SAGA_ID = SAGA.SAGA_ID)
+WHERE SAGA.STATUS IN ('STARTED', 'IN_PROGRESS');
@@ -0,0 +1 @@
+CREATE INDEX PEN_SERVICES_SAGA_EVENT_STATES_SAGA_ID_STEP_IDX ON API_PEN_VALIDATION.PEN_SERVICES_SAGA_EVENT_STATES (SAGA_ID, SAGA_STEP_NUMBER) TABLESPACE API_PEN_IDX;
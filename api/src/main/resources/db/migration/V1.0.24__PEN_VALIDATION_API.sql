@@ -0,0 +1,4 @@
+-- rows recorded before the constraint may repeat a step of their saga, they are kept and only new rows are checked.
+ALTER TABLE API_PEN_VALIDATION.PEN_SERVICES_SAGA_EVENT_STATES
+    ADD CONSTRAINT UQ_SAGA_EVENT_STATES_SAGA_ID_STEP UNIQUE (SAGA_ID, SAGA_STEP_NUMBER)
+        USING INDEX PEN_SERVICES_SAGA_EVENT_STATES_SAGA_ID_STEP_IDX ENABLE NOVALIDATE;
@@ -0,0 +1,12 @@
+CREATE TABLE API_PEN_VALIDATION.PEN_SERVICES_PEN_ALLOCATION
+(
+    ALLOCATION_NAME VARCHAR2(32)         NOT NULL,
+    HIGH_WATER_MARK NUMBER               NOT NULL,
+    UPDATE_DATE     DATE DEFAULT SYSDATE NOT NULL,
+    CONSTRAINT PEN_SERVICES_PEN_ALLOCATION_PK PRIMARY KEY (ALLOCATION_NAME)
+);
+COMMENT ON TABLE API_PEN_VALIDATION.PEN_SERVICES_PEN_ALLOCATION IS 'The highest PEN leased from each redis allocation counter, used to seed the counter again when redis loses it.';
+COMMENT ON COLUMN API_PEN_VALIDATION.PEN_SERVICES_PEN_ALLOCATION.HIGH_WATER_MARK IS 'The last PEN, without check digit, of the most recent block leased by any pod.';
+
+INSERT INTO API_PEN_VALIDATION.PEN_SERVICES_PEN_ALLOCATION (ALLOCATION_NAME, HIGH_WATER_MARK, UPDATE_DATE)
+VALUES ('NEXT_PEN_NUMBER', 0, SYSDATE);
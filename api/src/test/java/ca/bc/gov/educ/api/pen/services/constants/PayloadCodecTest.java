@@ -0,0 +1,34 @@
+package ca.bc.gov.educ.api.pen.services.constants;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The type Payload codec test.
+ */
+public class PayloadCodecTest {
+
+  private static final byte[] LARGE_PAYLOAD = ("[" + "{\"legalFirstName\":\"Jack\",\"legalLastName\":\"Saga\"},".repeat(50) + "{}]").getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  public void testEncode_givenGzipAndLargePayload_shouldCompressAndDecodeBack() {
+    final var stored = PayloadCodec.GZIP.encode(LARGE_PAYLOAD);
+    assertThat(stored).hasSizeLessThan(LARGE_PAYLOAD.length).startsWith((byte) 0x1f, (byte) 0x8b);
+    assertThat(PayloadCodec.decode(stored)).isEqualTo(LARGE_PAYLOAD);
+  }
+
+  @Test
+  public void testEncode_givenGzipAndShortPayload_shouldStoreItAsItIs() {
+    final var payload = " ".getBytes(StandardCharsets.UTF_8);
+    assertThat(PayloadCodec.GZIP.encode(payload)).isSameAs(payload);
+  }
+
+  @Test
+  public void testDecode_givenRowWrittenBeforeTheCodec_shouldReturnItAsItIs() {
+    assertThat(PayloadCodec.decode(PayloadCodec.NONE.encode(LARGE_PAYLOAD))).isEqualTo(LARGE_PAYLOAD);
+    assertThat(PayloadCodec.decode(null)).isNull();
+  }
+}
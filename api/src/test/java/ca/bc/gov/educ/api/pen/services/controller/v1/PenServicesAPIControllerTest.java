@@ -33,6 +33,7 @@ import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -742,6 +743,66 @@ public class PenServicesAPIControllerTest {
 
   }
 
+  @Test
+  public void testValidateStudentDataBatch_givenValidAndInvalidPayloads_shouldReturnStatusOkWithResultsKeyedByTransactionID() throws Exception {
+    final var validPayload = this.createValidationPayload();
+    final var invalidPayload = this.createValidationPayload();
+    invalidPayload.setSubmittedPen("120164446");
+    when(this.restUtils.getGenderCodes()).thenReturn(this.genderCodes);
+    when(this.restUtils.getGradeCodes()).thenReturn(this.gradeCodes);
+    this.mockMvc
+      .perform(post(STUDENT_REQUEST_URL + "/batch")
+        .with(jwt().jwt((jwt) -> jwt.claim("scope", "VALIDATE_STUDENT_DEMOGRAPHICS")))
+        .contentType(APPLICATION_JSON).accept(APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(List.of(validPayload, invalidPayload))))
+      .andDo(print()).andExpect(status().isOk())
+      .andExpect(jsonPath("$." + validPayload.getTransactionID(), hasSize(0)))
+      .andExpect(jsonPath("$." + invalidPayload.getTransactionID(), hasSize(1)));
+  }
+
+  @Test
+  public void testValidateStudentDataBatch_givenDuplicateTransactionID_shouldReturnStatusBadRequest() throws Exception {
+    final var payload = this.createValidationPayload();
+    this.mockMvc
+      .perform(post(STUDENT_REQUEST_URL + "/batch")
+        .with(jwt().jwt((jwt) -> jwt.claim("scope", "VALIDATE_STUDENT_DEMOGRAPHICS")))
+        .contentType(APPLICATION_JSON).accept(APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(List.of(payload, payload))))
+      .andDo(print()).andExpect(status().isBadRequest());
+  }
+
+  @Test
+  public void testValidateStudentDataBatch_givenBatchLargerThanMaxSize_shouldReturnStatusBadRequest() throws Exception {
+    final List<PenRequestStudentValidationPayload> payloads = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      final var payload = this.createValidationPayload();
+      payload.setTransactionID(UUID.randomUUID().toString());
+      payloads.add(payload);
+    }
+    this.mockMvc
+      .perform(post(STUDENT_REQUEST_URL + "/batch")
+        .with(jwt().jwt((jwt) -> jwt.claim("scope", "VALIDATE_STUDENT_DEMOGRAPHICS")))
+        .contentType(APPLICATION_JSON).accept(APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(payloads)))
+      .andDo(print()).andExpect(status().isBadRequest());
+  }
+
+  @Test
+  public void testGetNextPenNumbers_givenMissingTransactionID_shouldReturnStatusBadRequest() throws Exception {
+    this.mockMvc
+      .perform(post("/api/v1/pen-services/next-pen-number/batch")
+        .with(jwt().jwt((jwt) -> jwt.claim("scope", "GET_NEXT_PEN_NUMBER")))
+        .contentType(APPLICATION_JSON).accept(APPLICATION_JSON).content("[\"" + UUID.randomUUID() + "\", null]"))
+      .andDo(print()).andExpect(status().isBadRequest());
+  }
+
+  @Test
+  public void testGetNextPenNumbers_givenDuplicateTransactionID_shouldReturnStatusBadRequest() throws Exception {
+    final var transactionID = UUID.randomUUID();
+    this.mockMvc
+      .perform(post("/api/v1/pen-services/next-pen-number/batch")
+        .with(jwt().jwt((jwt) -> jwt.claim("scope", "GET_NEXT_PEN_NUMBER")))
+        .contentType(APPLICATION_JSON).accept(APPLICATION_JSON).content("[\"" + transactionID + "\", \"" + transactionID + "\"]"))
+      .andDo(print()).andExpect(status().isBadRequest());
+  }
+
   @Test
   public void testGetValidationIssueFieldCodes_ShouldReturnCodes() throws Exception {
     this.mockMvc.perform(get("/api/v1/pen-services/validation/issue-field-code")
@@ -0,0 +1,157 @@
+package ca.bc.gov.educ.api.pen.services.messaging;
+
+import ca.bc.gov.educ.api.pen.services.constants.EventType;
+import ca.bc.gov.educ.api.pen.services.properties.ApplicationProperties;
+import ca.bc.gov.educ.api.pen.services.service.events.EventHandlerDelegatorService;
+import ca.bc.gov.educ.api.pen.services.struct.v1.Event;
+import ca.bc.gov.educ.api.pen.services.util.JsonUtil;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nats.client.Connection;
+import io.nats.client.Dispatcher;
+import io.nats.client.Message;
+import io.nats.client.MessageHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static ca.bc.gov.educ.api.pen.services.constants.TopicsEnum.PEN_SERVICES_API_TOPIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * The type Message subscriber test.
+ */
+public class MessageSubscriberTest {
+
+  private Connection connection;
+  private Dispatcher dispatcher;
+  private EventHandlerDelegatorService eventHandlerDelegatorService;
+  private StripedExecutor sagaEventExecutor;
+  private MessageSubscriber messageSubscriber;
+
+  @Before
+  public void setUp() {
+    this.connection = mock(Connection.class);
+    this.dispatcher = mock(Dispatcher.class);
+    when(this.connection.createDispatcher(any())).thenReturn(this.dispatcher);
+    this.eventHandlerDelegatorService = mock(EventHandlerDelegatorService.class);
+    final var props = new ApplicationProperties();
+    props.setApiTopicDispatchers(3);
+    props.setSagaTopicDispatchers(1);
+    props.setValidationLaneThreads(1);
+    props.setPenAllocationLaneThreads(1);
+    props.setMergeLaneThreads(1);
+    props.setOtherLaneThreads(1);
+    props.setLaneQueueSize(1);
+    final var meterRegistry = new SimpleMeterRegistry();
+    this.sagaEventExecutor = new StripedExecutor("saga-event", 2, 10, meterRegistry);
+    this.messageSubscriber = new MessageSubscriber(this.connection, this.eventHandlerDelegatorService, List.of(), props, meterRegistry, this.sagaEventExecutor);
+  }
+
+  @After
+  public void tearDown() {
+    this.messageSubscriber.close();
+    this.sagaEventExecutor.shutdown();
+  }
+
+  @Test
+  public void testSubscribe_givenDispatcherCount_shouldSubscribeEachToTheQueueGroup() {
+    this.messageSubscriber.subscribe();
+    verify(this.connection, times(3)).createDispatcher(any());
+    verify(this.dispatcher, times(3)).subscribe(PEN_SERVICES_API_TOPIC.toString(), "PEN-SERVICES-API-TOPIC");
+  }
+
+  @Test
+  public void testOnMessage_givenValidationBacklog_shouldHandlePenNumberOnItsOwnLane() throws Exception {
+    final var handlerCaptor = ArgumentCaptor.forClass(MessageHandler.class);
+    this.messageSubscriber.subscribe();
+    verify(this.connection, atLeastOnce()).createDispatcher(handlerCaptor.capture());
+    final MessageHandler handler = handlerCaptor.getValue();
+
+    final var release = new CountDownLatch(1);
+    final var validationStarted = new CountDownLatch(1);
+    final var penNumberHandled = new CountDownLatch(1);
+    final Map<EventType, String> threads = new ConcurrentHashMap<>();
+    doAnswer(invocation -> {
+      final Event event = invocation.getArgument(0);
+      threads.put(event.getEventType(), Thread.currentThread().getName());
+      if (event.getEventType() == EventType.VALIDATE_STUDENT_DEMOGRAPHICS) {
+        validationStarted.countDown();
+        release.await(5, TimeUnit.SECONDS);
+      } else {
+        penNumberHandled.countDown();
+      }
+      return null;
+    }).when(this.eventHandlerDelegatorService).handleEvent(any(), any());
+
+    handler.onMessage(this.message(EventType.VALIDATE_STUDENT_DEMOGRAPHICS));
+    handler.onMessage(this.message(EventType.VALIDATE_STUDENT_DEMOGRAPHICS));
+    handler.onMessage(this.message(EventType.GET_NEXT_PEN_NUMBER));
+    try {
+      assertThat(validationStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(penNumberHandled.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(threads.get(EventType.GET_NEXT_PEN_NUMBER)).startsWith("event-lane-pen-allocation-");
+      assertThat(threads.get(EventType.VALIDATE_STUDENT_DEMOGRAPHICS)).startsWith("event-lane-validation-");
+    } finally {
+      release.countDown();
+    }
+    verify(this.eventHandlerDelegatorService, timeout(5000).times(3)).handleEvent(any(), any());
+  }
+
+  @Test
+  public void testOnMessage_givenValidationLaneFull_shouldHoldTheDispatcherBackWithoutRunningTheEventOnIt() throws Exception {
+    final var handlerCaptor = ArgumentCaptor.forClass(MessageHandler.class);
+    this.messageSubscriber.subscribe();
+    verify(this.connection, atLeastOnce()).createDispatcher(handlerCaptor.capture());
+    final MessageHandler handler = handlerCaptor.getValue();
+
+    final var release = new CountDownLatch(1);
+    final var validationStarted = new CountDownLatch(1);
+    final Map<String, Boolean> handlerThreads = new ConcurrentHashMap<>();
+    doAnswer(invocation -> {
+      handlerThreads.put(Thread.currentThread().getName(), Boolean.TRUE);
+      validationStarted.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return null;
+    }).when(this.eventHandlerDelegatorService).handleEvent(any(), any());
+
+    final var overflowDelivered = new CountDownLatch(1);
+    final var dispatcher = new Thread(() -> {
+      try {
+        handler.onMessage(this.message(EventType.VALIDATE_STUDENT_DEMOGRAPHICS));
+        assertThat(validationStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        handler.onMessage(this.message(EventType.VALIDATE_STUDENT_DEMOGRAPHICS));
+        handler.onMessage(this.message(EventType.VALIDATE_STUDENT_DEMOGRAPHICS));
+        overflowDelivered.countDown();
+      } catch (final Exception e) {
+        Thread.currentThread().interrupt();
+      }
+    }, "test-dispatcher");
+    try {
+      dispatcher.start();
+      assertThat(overflowDelivered.await(500, TimeUnit.MILLISECONDS)).isFalse();
+      release.countDown();
+      assertThat(overflowDelivered.await(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      release.countDown();
+      dispatcher.join(5000);
+    }
+    verify(this.eventHandlerDelegatorService, timeout(5000).times(3)).handleEvent(any(), any());
+    assertThat(handlerThreads).isNotEmpty().allSatisfy((thread, ignored) -> assertThat(thread).startsWith("event-lane-validation-"));
+  }
+
+  private Message message(final EventType eventType) throws Exception {
+    final var message = mock(Message.class);
+    when(message.getData()).thenReturn(JsonUtil.getJsonBytesFromObject(Event.builder().eventType(eventType).eventPayload("{}").build()));
+    return message;
+  }
+}
@@ -0,0 +1,100 @@
+package ca.bc.gov.educ.api.pen.services.model;
+
+import ca.bc.gov.educ.api.pen.services.PenServicesApiResourceApplication;
+import ca.bc.gov.educ.api.pen.services.constants.PayloadCodec;
+import ca.bc.gov.educ.api.pen.services.repository.SagaEventRepository;
+import ca.bc.gov.educ.api.pen.services.repository.SagaRepository;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static ca.bc.gov.educ.api.pen.services.constants.SagaEnum.PEN_SERVICES_SPLIT_PEN_SAGA;
+import static ca.bc.gov.educ.api.pen.services.constants.SagaStatusEnum.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The type Payload converter test, with no codec, the default of the deployments.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = {PenServicesApiResourceApplication.class}, properties = "saga.payload.codec=NONE")
+@ActiveProfiles("test")
+public class PayloadConverterNoneCodecTest {
+
+  private static final String PAYLOAD = "[" + "{\"legalFirstName\":\"Jack\",\"legalLastName\":\"Saga\"},".repeat(50) + "{}]";
+
+  @Autowired
+  SagaRepository repository;
+
+  @Autowired
+  SagaEventRepository eventRepository;
+
+  @Autowired
+  JdbcTemplate jdbcTemplate;
+
+  @After
+  public void tearDown() {
+    this.eventRepository.deleteAll();
+    this.repository.deleteAll();
+  }
+
+  @Test
+  public void testSave_givenNoneCodec_shouldStoreThePayloadAsJsonAndReadItBack() {
+    final var saga = this.saveSaga(PAYLOAD);
+
+    final byte[] stored = this.jdbcTemplate.queryForObject("select PAYLOAD from PEN_SERVICES_SAGA", byte[].class);
+    assertThat(new String(stored, StandardCharsets.UTF_8)).isEqualTo(PAYLOAD);
+    assertThat(this.repository.findById(saga.getSagaId()).orElseThrow().getPayload()).isEqualTo(PAYLOAD);
+  }
+
+  @Test
+  public void testSave_givenNoneCodec_shouldStoreTheEventResponseAsJsonAndReadItBack() {
+    final var event = this.saveSagaEvent(this.saveSaga(PAYLOAD), PAYLOAD);
+
+    final byte[] stored = this.jdbcTemplate.queryForObject("select SAGA_EVENT_RESPONSE from PEN_SERVICES_SAGA_EVENT_STATES", byte[].class);
+    assertThat(new String(stored, StandardCharsets.UTF_8)).isEqualTo(PAYLOAD);
+    assertThat(this.eventRepository.findById(event.getSagaEventId()).orElseThrow().getSagaEventResponse()).isEqualTo(PAYLOAD);
+  }
+
+  @Test
+  public void testFind_givenRowWrittenWithGzipCodec_shouldReadItBack() {
+    final var saga = this.saveSaga(PAYLOAD);
+    this.jdbcTemplate.update("update PEN_SERVICES_SAGA set PAYLOAD = ?", (Object) PayloadCodec.GZIP.encode(PAYLOAD.getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(this.repository.findById(saga.getSagaId()).orElseThrow().getPayload()).isEqualTo(PAYLOAD);
+  }
+
+  private Saga saveSaga(final String payload) {
+    return this.repository.save(Saga.builder()
+        .payload(payload)
+        .sagaName(PEN_SERVICES_SPLIT_PEN_SAGA.toString())
+        .status(STARTED.toString())
+        .sagaState(STARTED.toString())
+        .createDate(LocalDateTime.now())
+        .createUser("PEN_SERVICES_API")
+        .updateUser("PEN_SERVICES_API")
+        .updateDate(LocalDateTime.now())
+        .build());
+  }
+
+  private SagaEventStates saveSagaEvent(final Saga saga, final String response) {
+    return this.eventRepository.save(SagaEventStates.builder()
+        .saga(saga)
+        .sagaEventState(STARTED.toString())
+        .sagaEventOutcome(STARTED.toString())
+        .sagaStepNumber(1)
+        .sagaEventResponse(response)
+        .createDate(LocalDateTime.now())
+        .createUser("PEN_SERVICES_API")
+        .updateUser("PEN_SERVICES_API")
+        .updateDate(LocalDateTime.now())
+        .build());
+  }
+}
@@ -172,12 +172,41 @@ public class SplitPenOrchestratorTest {
     var sagaFromDB = sagaService.findSagaById(saga.getSagaId());
     assertThat(sagaFromDB).isPresent();
     assertThat(sagaFromDB.get().getSagaState()).isEqualTo(GET_NEXT_PEN_NUMBER.toString());
+    assertThat(sagaFromDB.get().getStepNumber()).isEqualTo(1);
     var sagaStates = sagaService.findAllSagaStates(saga);
     assertThat(sagaStates.size()).isEqualTo(1);
+    assertThat(sagaStates.get(0).getSagaStepNumber()).isEqualTo(1);
     assertThat(sagaStates.get(0).getSagaEventState()).isEqualTo(EventType.UPDATE_STUDENT.toString());
     assertThat(sagaStates.get(0).getSagaEventOutcome()).isEqualTo(EventOutcome.STUDENT_UPDATED.toString());
   }
 
+  @Test
+  public void testReplaySaga_givenLastEventStateStored_shouldInvokeTheNextStepAgain() throws IOException, InterruptedException, TimeoutException {
+    var studentPayload = Student.builder().studentID(studentID).legalFirstName("Jack").localID("20345678").statusCode("A").build();
+    var event = Event.builder()
+      .eventType(EventType.UPDATE_STUDENT)
+      .eventOutcome(EventOutcome.STUDENT_UPDATED)
+      .sagaId(saga.getSagaId())
+      .studentID(studentID)
+      .eventPayload(JsonUtil.getJsonStringFromObject(studentPayload))
+      .build();
+    orchestrator.handleEvent(event);
+
+    var lastSagaState = sagaService.findLastSagaState(saga);
+    assertThat(lastSagaState).isPresent();
+    assertThat(lastSagaState.get().getSagaStepNumber()).isEqualTo(1);
+    assertThat(lastSagaState.get().getSagaEventState()).isEqualTo(EventType.UPDATE_STUDENT.toString());
+    assertThat(sagaService.findSagaEventResponse(lastSagaState.get().getSagaEventId())).isEqualTo(event.getEventPayload());
+
+    var invocations = mockingDetails(messagePublisher).getInvocations().size();
+    orchestrator.replaySaga(sagaService.findSagaById(saga.getSagaId()).orElseThrow());
+    verify(messagePublisher, atMost(invocations + 1)).dispatchMessage(eq(PEN_SERVICES_API_TOPIC.toString()), eventCaptor.capture());
+    var newEvent = JsonUtil.getJsonObjectFromString(Event.class, new String(eventCaptor.getValue()));
+    assertThat(newEvent.getEventType()).isEqualTo(GET_NEXT_PEN_NUMBER);
+    assertThat(sagaService.findAllSagaStates(saga)).hasSize(1);
+    assertThat(sagaService.findSagaById(saga.getSagaId()).orElseThrow().getStepNumber()).isEqualTo(1);
+  }
+
   @Test
   public void testCreateStudent_givenEventAndSagaData_shouldPostEventToStudentApi() throws IOException, InterruptedException, TimeoutException {
     var invocations = mockingDetails(messagePublisher).getInvocations().size();
@@ -13,6 +13,7 @@ import ca.bc.gov.educ.api.pen.services.struct.Student;
 import ca.bc.gov.educ.api.pen.services.struct.v1.*;
 import ca.bc.gov.educ.api.pen.services.support.TestRedisConfiguration;
 import ca.bc.gov.educ.api.pen.services.util.JsonUtil;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
@@ -29,12 +30,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 import static ca.bc.gov.educ.api.pen.services.constants.EventType.*;
@@ -75,6 +78,12 @@ public class StudentMergeCompleteOrchestratorTest {
   @Autowired
   private StudentMergeCompleteOrchestrator orchestrator;
 
+  /**
+   * The Saga event executor, runs the work handed to a stripe right away.
+   */
+  @Autowired
+  private StripedExecutor sagaEventExecutor;
+
   /**
    * The Saga.
    */
@@ -105,6 +114,10 @@ public class StudentMergeCompleteOrchestratorTest {
   @Before
   public void setUp() throws JsonProcessingException {
     MockitoAnnotations.openMocks(this);
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(1).run();
+      return null;
+    }).when(this.sagaEventExecutor).execute(any(), any(Runnable.class));
     final var payload = this.placeholderStudentMergeCompleteSagaData();
     this.sagaData = this.getStudentMergeCompleteSagaDataFromJsonString(payload);
     this.sagaData.setMergedToPen("123456789");
@@ -126,6 +139,7 @@ public class StudentMergeCompleteOrchestratorTest {
   public void after() {
     this.sagaEventRepository.deleteAll();
     this.repository.deleteAll();
+    reset(this.sagaEventExecutor);
   }
 
   @Test
@@ -153,6 +167,29 @@ public class StudentMergeCompleteOrchestratorTest {
     assertThat(sagaStates.get(0).getSagaEventOutcome()).isEqualTo(EventOutcome.INITIATE_SUCCESS.toString());
   }
 
+  @Test
+  public void testStartSaga_givenSaga_shouldRunTheInitiatedEventOnTheStripeOfTheSaga() {
+    this.orchestrator.startSaga(this.saga);
+    verify(this.sagaEventExecutor).execute(eq(this.saga.getSagaId()), any(Runnable.class));
+    final var sagaFromDB = this.sagaService.findSagaById(this.saga.getSagaId());
+    assertThat(sagaFromDB).isPresent();
+    assertThat(sagaFromDB.get().getSagaState()).isEqualTo(GET_STUDENT.toString());
+  }
+
+  @Test
+  public void testStartSaga_givenSaga_shouldRunTheInitiatedEventInATransaction() {
+    final List<Boolean> transactionActive = new ArrayList<>();
+    doAnswer(invocation -> transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive()))
+        .when(this.messagePublisher).dispatchMessage(eq(STUDENT_API_TOPIC.toString()), any());
+    try {
+      this.orchestrator.startSaga(this.saga);
+    } finally {
+      doNothing().when(this.messagePublisher).dispatchMessage(any(), any());
+    }
+    assertThat(transactionActive).containsExactly(true);
+    clearInvocations(this.messagePublisher); // the publisher mock is shared, the other tests count its requests
+  }
+
   @Test
   public void testUpdateMergedToStudent_givenEventAndSagaData_shouldPostEventToStudentApi() throws IOException, InterruptedException, TimeoutException {
     final var sagaFromDBtoUpdateOptional = this.sagaService.findSagaById(this.saga.getSagaId());
@@ -172,9 +209,9 @@ public class StudentMergeCompleteOrchestratorTest {
         .sagaId(this.saga.getSagaId())
         .eventPayload(JsonUtil.getJsonStringFromObject(studentPayload))
         .build();
-    when(this.messagePublisher.requestMessage(eq(STUDENT_API_TOPIC.toString()), any())).thenReturn(Optional.of(JsonUtil.getJsonStringFromObject(studentPayload)));
+    when(this.messagePublisher.requestMessageAsync(eq(STUDENT_API_TOPIC.toString()), any())).thenReturn(CompletableFuture.completedFuture(Optional.of(JsonUtil.getJsonStringFromObject(studentPayload))));
     this.orchestrator.handleEvent(event);
-    verify(this.messagePublisher, atMost(1)).requestMessage(eq(STUDENT_API_TOPIC.toString()), this.requestEventCaptor.capture());
+    verify(this.messagePublisher, atMost(1)).requestMessageAsync(eq(STUDENT_API_TOPIC.toString()), this.requestEventCaptor.capture());
     verify(this.messagePublisher, atMost(invocations + 1)).dispatchMessage(eq(STUDENT_API_TOPIC.toString()), this.eventCaptor.capture());
 
     final var newEvent = JsonUtil.getJsonObjectFromString(Event.class, new String(this.eventCaptor.getValue()));
@@ -194,6 +231,115 @@ public class StudentMergeCompleteOrchestratorTest {
     assertThat(sagaStates.get(0).getSagaEventOutcome()).isEqualTo(EventOutcome.STUDENT_FOUND.toString());
   }
 
+  @Test
+  public void testUpdateMergedToStudent_givenReplyPending_shouldUpdateOnceReplyArrives() throws IOException, InterruptedException, TimeoutException {
+    final var sagaFromDBtoUpdate = this.sagaService.findSagaById(this.saga.getSagaId()).orElseThrow();
+    final var payload = JsonUtil.getJsonObjectFromString(StudentMergeCompleteSagaData.class, sagaFromDBtoUpdate.getPayload());
+    payload.setRequestStudentID(this.studentID);
+    sagaFromDBtoUpdate.setPayload(JsonUtil.getJsonStringFromObject(payload));
+    this.sagaService.updateAttachedEntityDuringSagaProcess(sagaFromDBtoUpdate);
+    final var studentPayload = Student.builder().studentID(this.studentID).legalFirstName("Jack").localID("20345678").statusCode("A").build();
+    final var event = Event.builder()
+        .eventType(GET_STUDENT)
+        .eventOutcome(EventOutcome.STUDENT_FOUND)
+        .sagaId(this.saga.getSagaId())
+        .eventPayload(JsonUtil.getJsonStringFromObject(studentPayload))
+        .build();
+    final var reply = new CompletableFuture<Optional<String>>();
+    when(this.messagePublisher.requestMessageAsync(eq(STUDENT_API_TOPIC.toString()), any())).thenReturn(reply);
+    this.orchestrator.handleEvent(event);
+    assertThat(this.sagaService.findSagaById(this.saga.getSagaId()).orElseThrow().getSagaState()).isNotEqualTo(UPDATE_STUDENT.toString());
+
+    reply.complete(Optional.of(JsonUtil.getJsonStringFromObject(studentPayload)));
+    verify(this.messagePublisher, atLeastOnce()).dispatchMessage(eq(STUDENT_API_TOPIC.toString()), this.eventCaptor.capture());
+    final var newEvent = JsonUtil.getJsonObjectFromString(Event.class, new String(this.eventCaptor.getValue()));
+    assertThat(newEvent.getEventType()).isEqualTo(UPDATE_STUDENT);
+    assertThat(newEvent.getSagaId()).isEqualTo(this.saga.getSagaId());
+    assertThat(this.sagaService.findSagaById(this.saga.getSagaId()).orElseThrow().getSagaState()).isEqualTo(UPDATE_STUDENT.toString());
+    clearInvocations(this.messagePublisher); // the publisher mock is shared, the other tests count its requests
+  }
+
+  @Test
+  public void testUpdateMergedToStudent_givenReplyArrives_shouldUpdateInATransaction() throws IOException, InterruptedException, TimeoutException {
+    final var sagaFromDBtoUpdate = this.sagaService.findSagaById(this.saga.getSagaId()).orElseThrow();
+    final var payload = JsonUtil.getJsonObjectFromString(StudentMergeCompleteSagaData.class, sagaFromDBtoUpdate.getPayload());
+    payload.setRequestStudentID(this.studentID);
+    sagaFromDBtoUpdate.setPayload(JsonUtil.getJsonStringFromObject(payload));
+    this.sagaService.updateAttachedEntityDuringSagaProcess(sagaFromDBtoUpdate);
+    final var studentPayload = Student.builder().studentID(this.studentID).legalFirstName("Jack").localID("20345678").statusCode("A").build();
+    final var event = Event.builder()
+        .eventType(GET_STUDENT)
+        .eventOutcome(EventOutcome.STUDENT_FOUND)
+        .sagaId(this.saga.getSagaId())
+        .eventPayload(JsonUtil.getJsonStringFromObject(studentPayload))
+        .build();
+    final var reply = new CompletableFuture<Optional<String>>();
+    when(this.messagePublisher.requestMessageAsync(eq(STUDENT_API_TOPIC.toString()), any())).thenReturn(reply);
+    this.orchestrator.handleEvent(event);
+
+    final List<Boolean> transactionActive = new ArrayList<>();
+    doAnswer(invocation -> transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive()))
+        .when(this.messagePublisher).dispatchMessage(eq(STUDENT_API_TOPIC.toString()), any());
+    try {
+      reply.complete(Optional.of(JsonUtil.getJsonStringFromObject(studentPayload)));
+    } finally {
+      doNothing().when(this.messagePublisher).dispatchMessage(any(), any());
+    }
+    assertThat(transactionActive).containsExactly(true);
+    assertThat(this.sagaService.findSagaById(this.saga.getSagaId()).orElseThrow().getSagaState()).isEqualTo(UPDATE_STUDENT.toString());
+    clearInvocations(this.messagePublisher); // the publisher mock is shared, the other tests count its requests
+  }
+
+  @Test
+  public void testUpdateMergedToStudent_givenSagaMovedOnWhileReplyPending_shouldNotUpdate() throws IOException, InterruptedException, TimeoutException {
+    final var sagaFromDBtoUpdate = this.sagaService.findSagaById(this.saga.getSagaId()).orElseThrow();
+    final var payload = JsonUtil.getJsonObjectFromString(StudentMergeCompleteSagaData.class, sagaFromDBtoUpdate.getPayload());
+    payload.setRequestStudentID(this.studentID);
+    sagaFromDBtoUpdate.setPayload(JsonUtil.getJsonStringFromObject(payload));
+    this.sagaService.updateAttachedEntityDuringSagaProcess(sagaFromDBtoUpdate);
+    final var studentPayload = Student.builder().studentID(this.studentID).legalFirstName("Jack").localID("20345678").statusCode("A").build();
+    final var event = Event.builder()
+        .eventType(GET_STUDENT)
+        .eventOutcome(EventOutcome.STUDENT_FOUND)
+        .sagaId(this.saga.getSagaId())
+        .eventPayload(JsonUtil.getJsonStringFromObject(studentPayload))
+        .build();
+    final var reply = new CompletableFuture<Optional<String>>();
+    when(this.messagePublisher.requestMessageAsync(eq(STUDENT_API_TOPIC.toString()), any())).thenReturn(reply);
+    this.orchestrator.handleEvent(event);
+
+    final var sagaFromDB = this.sagaService.findSagaById(this.saga.getSagaId()).orElseThrow();
+    sagaFromDB.setStepNumber((sagaFromDB.getStepNumber() == null ? 0 : sagaFromDB.getStepNumber()) + 1);
+    this.sagaService.updateAttachedEntityDuringSagaProcess(sagaFromDB);
+    clearInvocations(this.messagePublisher);
+    reply.complete(Optional.of(JsonUtil.getJsonStringFromObject(studentPayload)));
+    verify(this.messagePublisher, never()).dispatchMessage(eq(STUDENT_API_TOPIC.toString()), any());
+    assertThat(this.sagaService.findAllSagaStates(this.saga)).isEmpty();
+  }
+
+  @Test
+  public void testUpdateMergedToStudent_givenEmptyReply_shouldLeaveTheSagaForReplay() throws IOException, InterruptedException, TimeoutException {
+    final var sagaFromDBtoUpdate = this.sagaService.findSagaById(this.saga.getSagaId()).orElseThrow();
+    final var payload = JsonUtil.getJsonObjectFromString(StudentMergeCompleteSagaData.class, sagaFromDBtoUpdate.getPayload());
+    payload.setRequestStudentID(this.studentID);
+    sagaFromDBtoUpdate.setPayload(JsonUtil.getJsonStringFromObject(payload));
+    this.sagaService.updateAttachedEntityDuringSagaProcess(sagaFromDBtoUpdate);
+    final var studentPayload = Student.builder().studentID(this.studentID).legalFirstName("Jack").localID("20345678").statusCode("A").build();
+    final var event = Event.builder()
+        .eventType(GET_STUDENT)
+        .eventOutcome(EventOutcome.STUDENT_FOUND)
+        .sagaId(this.saga.getSagaId())
+        .eventPayload(JsonUtil.getJsonStringFromObject(studentPayload))
+        .build();
+    when(this.messagePublisher.requestMessageAsync(eq(STUDENT_API_TOPIC.toString()), any())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+    clearInvocations(this.messagePublisher);
+    this.orchestrator.handleEvent(event);
+    verify(this.messagePublisher, never()).dispatchMessage(eq(STUDENT_API_TOPIC.toString()), any());
+    assertThat(this.sagaService.findSagaById(this.saga.getSagaId()).orElseThrow().getSagaState()).isNotEqualTo(UPDATE_STUDENT.toString());
+    assertThat(this.sagaService.findAllSagaStates(this.saga)).isEmpty();
+    clearInvocations(this.messagePublisher);
+  }
+
   @Test
   public void testCreateMerge_givenEventAndSagaData_shouldPostEventToPenServicesApi() throws IOException, InterruptedException, TimeoutException {
     final var sagaFromDBtoUpdateOptional = this.sagaService.findSagaById(this.saga.getSagaId());
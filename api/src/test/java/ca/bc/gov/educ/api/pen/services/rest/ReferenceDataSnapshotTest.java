@@ -0,0 +1,36 @@
+package ca.bc.gov.educ.api.pen.services.rest;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReferenceDataSnapshotTest {
+
+  @Test
+  public void testRefresh_givenSuccessfulLoad_shouldPublishNewSnapshot() {
+    final ReferenceDataSnapshot<List<String>> snapshot = new ReferenceDataSnapshot<>("codes", Collections.emptyList());
+    snapshot.refresh(() -> List.of("F", "M"));
+    assertThat(snapshot.get()).containsExactly("F", "M");
+  }
+
+  @Test
+  public void testRefresh_givenFailedLoad_shouldRetainPreviousSnapshot() {
+    final ReferenceDataSnapshot<List<String>> snapshot = new ReferenceDataSnapshot<>("codes", Collections.emptyList());
+    snapshot.refresh(() -> List.of("F", "M"));
+    assertThatThrownBy(() -> snapshot.refresh(() -> {
+      throw new IllegalStateException("api is down");
+    })).isInstanceOf(IllegalStateException.class);
+    assertThat(snapshot.get()).containsExactly("F", "M");
+  }
+
+  @Test
+  public void testRefresh_givenNullLoad_shouldRetainPreviousSnapshot() {
+    final ReferenceDataSnapshot<List<String>> snapshot = new ReferenceDataSnapshot<>("codes", List.of("X"));
+    assertThatThrownBy(() -> snapshot.refresh(() -> null)).isInstanceOf(IllegalStateException.class);
+    assertThat(snapshot.get()).containsExactly("X");
+  }
+}
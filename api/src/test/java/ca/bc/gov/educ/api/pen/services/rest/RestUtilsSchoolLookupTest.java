@@ -0,0 +1,101 @@
+package ca.bc.gov.educ.api.pen.services.rest;
+
+import ca.bc.gov.educ.api.pen.services.properties.ApplicationProperties;
+import ca.bc.gov.educ.api.pen.services.struct.v1.SchoolTombstone;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * The type Rest utils school lookup test.
+ */
+public class RestUtilsSchoolLookupTest {
+
+  private RestUtils restUtils;
+
+  @Before
+  public void setUp() {
+    this.restUtils = spy(new RestUtils(new ApplicationProperties(), mock(WebClient.class)));
+  }
+
+  @After
+  public void tearDown() {
+    this.restUtils.close();
+  }
+
+  @Test
+  public void testGetSchoolByMincode_givenSchoolsLoaded_shouldNotCallInstituteAPIPerMincode() throws Exception {
+    doReturn(List.of(this.createSchool("10200001", "2020-01-01T00:00:00"), this.createSchool("10200001", null))).when(this.restUtils).getSchools();
+    this.restUtils.populateSchoolMap();
+    assertThat(this.restUtils.getSchoolByMincode("10200001")).get().extracting(SchoolTombstone::getClosedDate).isNull();
+    verify(this.restUtils, never()).getSchoolFromInstituteAPI(anyString());
+  }
+
+  @Test
+  public void testGetSchoolByMincode_givenMincodeMissing_shouldFetchItOnceAndRemember() throws Exception {
+    doReturn(List.of(this.createSchool("10200001", null))).when(this.restUtils).getSchools();
+    this.restUtils.populateSchoolMap();
+    doReturn(Optional.of(this.createSchool("10200002", null))).when(this.restUtils).getSchoolFromInstituteAPI("10200002");
+    doReturn(Optional.empty()).when(this.restUtils).getSchoolFromInstituteAPI("99999999");
+    assertThat(this.restUtils.getSchoolByMincode("10200002")).isPresent();
+    assertThat(this.restUtils.getSchoolByMincode("10200002")).isPresent();
+    assertThat(this.restUtils.getSchoolByMincode("99999999")).isEmpty();
+    assertThat(this.restUtils.getSchoolByMincode("99999999")).isEmpty();
+    verify(this.restUtils, times(1)).getSchoolFromInstituteAPI("10200002");
+    verify(this.restUtils, times(1)).getSchoolFromInstituteAPI("99999999");
+  }
+
+  @Test
+  public void testGetSchoolByMincode_givenUnknownMincodeRemembered_whenSchoolsReloaded_shouldFetchItAgain() throws Exception {
+    doReturn(List.of(this.createSchool("10200001", null))).when(this.restUtils).getSchools();
+    this.restUtils.populateSchoolMap();
+    doReturn(Optional.empty()).when(this.restUtils).getSchoolFromInstituteAPI("10200002");
+    assertThat(this.restUtils.getSchoolByMincode("10200002")).isEmpty();
+    this.restUtils.populateSchoolMap();
+    doReturn(Optional.of(this.createSchool("10200002", null))).when(this.restUtils).getSchoolFromInstituteAPI("10200002");
+    assertThat(this.restUtils.getSchoolByMincode("10200002")).isPresent();
+    verify(this.restUtils, times(2)).getSchoolFromInstituteAPI("10200002");
+  }
+
+  @Test
+  public void testGetSchoolByMincode_givenConcurrentMisses_shouldShareOneCall() throws Exception {
+    doReturn(List.of(this.createSchool("10200001", null))).when(this.restUtils).getSchools();
+    this.restUtils.populateSchoolMap();
+    final var release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return Optional.of(this.createSchool("10200002", null));
+    }).when(this.restUtils).getSchoolFromInstituteAPI("10200002");
+    final var first = CompletableFuture.supplyAsync(() -> this.restUtils.getSchoolByMincode("10200002"));
+    verify(this.restUtils, timeout(5000)).getSchoolFromInstituteAPI("10200002");
+    final var second = CompletableFuture.supplyAsync(() -> this.restUtils.getSchoolByMincode("10200002"));
+    release.countDown();
+    assertThat(first.get(5, TimeUnit.SECONDS)).isPresent();
+    assertThat(second.get(5, TimeUnit.SECONDS)).isPresent();
+    verify(this.restUtils, times(1)).getSchoolFromInstituteAPI("10200002");
+  }
+
+  @Test
+  public void testGetSchoolByMincode_givenSchoolsNotLoaded_shouldRefreshInBackground() throws Exception {
+    doReturn(List.of(this.createSchool("10200001", null))).when(this.restUtils).getSchools();
+    doReturn(Optional.of(this.createSchool("10200001", null))).when(this.restUtils).getSchoolFromInstituteAPI("10200001");
+    assertThat(this.restUtils.getSchoolByMincode("10200001")).isPresent();
+    verify(this.restUtils, timeout(5000)).populateSchoolMap();
+    verify(this.restUtils, timeout(5000)).getSchools();
+  }
+
+  private SchoolTombstone createSchool(final String mincode, final String closedDate) {
+    return SchoolTombstone.builder().mincode(mincode).closedDate(closedDate).build();
+  }
+}
@@ -0,0 +1,71 @@
+package ca.bc.gov.educ.api.pen.services.rules;
+
+import ca.bc.gov.educ.api.pen.services.struct.v1.GenderCode;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The type Active code lookup test.
+ */
+public class ActiveCodeLookupTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2021, 6, 1, 12, 0);
+
+  private final ActiveCodeLookup<GenderCode> lookup = new ActiveCodeLookup<>(GenderCode::getGenderCode, GenderCode::getEffectiveDate, GenderCode::getExpiryDate);
+
+  @Test
+  public void testIsActive_givenCodeInDifferentCase_shouldMatch() {
+    final var codes = List.of(this.createGenderCode("M", LocalDateTime.now().minusYears(1), LocalDateTime.now().plusYears(1)));
+    assertThat(this.lookup.isActive(codes, "m")).isTrue();
+    assertThat(this.lookup.isActive(codes, "F")).isFalse();
+  }
+
+  @Test
+  public void testGetIndex_givenSameListBeforeNextBoundary_shouldReuseIndex() {
+    final var codes = List.of(
+        this.createGenderCode("M", NOW.minusYears(1), NOW.plusYears(1)),
+        this.createGenderCode("X", NOW.plusDays(1), NOW.plusYears(1)));
+    final var index = this.lookup.getIndex(codes, NOW);
+    assertThat(index.getActiveCodes()).containsOnly("M");
+    assertThat(this.lookup.getIndex(codes, NOW.plusDays(1))).isSameAs(index);
+  }
+
+  @Test
+  public void testGetIndex_givenEffectiveDatePassed_shouldRebuildIndex() {
+    final var codes = List.of(
+        this.createGenderCode("M", NOW.minusYears(1), NOW.plusYears(1)),
+        this.createGenderCode("X", NOW.plusDays(1), NOW.plusYears(1)));
+    this.lookup.getIndex(codes, NOW);
+    assertThat(this.lookup.getIndex(codes, NOW.plusDays(1).plusSeconds(1)).getActiveCodes()).containsOnly("M", "X");
+  }
+
+  @Test
+  public void testGetIndex_givenExpiryDateReached_shouldRebuildIndex() {
+    final var codes = List.of(
+        this.createGenderCode("M", NOW.minusYears(1), NOW.plusYears(1)),
+        this.createGenderCode("U", NOW.minusYears(1), NOW.plusDays(1)));
+    assertThat(this.lookup.getIndex(codes, NOW).getActiveCodes()).containsOnly("M", "U");
+    assertThat(this.lookup.getIndex(codes, NOW.plusDays(1)).getActiveCodes()).containsOnly("M");
+  }
+
+  @Test
+  public void testGetIndex_givenNewList_shouldRebuildIndex() {
+    final var codes = List.of(this.createGenderCode("M", NOW.minusYears(1), NOW.plusYears(1)));
+    final var index = this.lookup.getIndex(codes, NOW);
+    final var newCodes = List.of(this.createGenderCode("F", NOW.minusYears(1), NOW.plusYears(1)));
+    assertThat(this.lookup.getIndex(newCodes, NOW)).isNotSameAs(index);
+    assertThat(this.lookup.getIndex(newCodes, NOW).getActiveCodes()).containsOnly("F");
+  }
+
+  private GenderCode createGenderCode(final String code, final LocalDateTime effectiveDate, final LocalDateTime expiryDate) {
+    final var genderCode = new GenderCode();
+    genderCode.setGenderCode(code);
+    genderCode.setEffectiveDate(effectiveDate);
+    genderCode.setExpiryDate(expiryDate);
+    return genderCode;
+  }
+}
@@ -0,0 +1,67 @@
+package ca.bc.gov.educ.api.pen.services.rules;
+
+import ca.bc.gov.educ.api.pen.services.model.PENNameText;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationFieldCode.*;
+import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode.ERROR;
+import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode.WARNING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The type Pen name text index test.
+ */
+public class PENNameTextIndexTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2021, 6, 1);
+
+  @Test
+  public void testFindSeverity_givenValueInDifferentCase_shouldMatch() {
+    final var index = PENNameTextIndex.of(List.of(this.createPenNameText("Doe", "FC", "QC", TODAY.minusYears(1), TODAY.plusYears(1))));
+    assertThat(index.findSeverity("DOE", LEGAL_LAST, TODAY)).contains(ERROR);
+    assertThat(index.findSeverity("doe", LEGAL_FIRST, TODAY)).contains(WARNING);
+    assertThat(index.findSeverity("doe", USUAL_MID, TODAY)).isEmpty();
+    assertThat(index.findSeverity("DOES", LEGAL_LAST, TODAY)).isEmpty();
+  }
+
+  @Test
+  public void testFindSeverity_givenRecordNotActive_shouldNotMatch() {
+    final var index = PENNameTextIndex.of(List.of(
+        this.createPenNameText("EXPIRED", "FC", "FC", TODAY.minusYears(2), TODAY.minusYears(1)),
+        this.createPenNameText("FUTURE", "FC", "FC", TODAY.plusYears(1), TODAY.plusYears(2)),
+        this.createPenNameText("EFFECTIVE_TODAY", "FC", "FC", TODAY, TODAY.plusYears(2))));
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(index.findSeverity("EXPIRED", LEGAL_LAST, TODAY)).isEmpty();
+    assertThat(index.findSeverity("FUTURE", LEGAL_LAST, TODAY)).isEmpty();
+    assertThat(index.findSeverity("EFFECTIVE_TODAY", LEGAL_LAST, TODAY)).isEmpty();
+  }
+
+  @Test
+  public void testFindSeverity_givenSeveralActiveRecords_shouldPreferError() {
+    final var index = PENNameTextIndex.of(List.of(
+        this.createPenNameText("ALIAS", "QC", null, TODAY.minusYears(1), TODAY.plusYears(1)),
+        this.createPenNameText("ALIAS", "FC", null, TODAY.minusYears(1), TODAY.plusYears(1))));
+    assertThat(index.findSeverity("ALIAS", LEGAL_LAST, TODAY)).contains(ERROR);
+    assertThat(index.findSeverity("ALIAS", LEGAL_FIRST, TODAY)).isEmpty();
+  }
+
+  @Test
+  public void testOf_givenRecordsWithoutDates_shouldBeEmpty() {
+    final var index = PENNameTextIndex.of(List.of(this.createPenNameText("DOE", "FC", "FC", null, null)));
+    assertThat(index.isEmpty()).isTrue();
+    assertThat(index.findSeverity("DOE", LEGAL_LAST, TODAY)).isEmpty();
+  }
+
+  private PENNameText createPenNameText(final String invalidText, final String legalSurnameCheck, final String legalGivenCheck, final LocalDate effectiveDate, final LocalDate expiryDate) {
+    final var penNameText = new PENNameText();
+    penNameText.setInvalidText(invalidText);
+    penNameText.setLegalSurnameCheck(legalSurnameCheck);
+    penNameText.setLegalGivenCheck(legalGivenCheck);
+    penNameText.setEffectiveDate(effectiveDate);
+    penNameText.setExpiryDate(expiryDate);
+    return penNameText;
+  }
+}
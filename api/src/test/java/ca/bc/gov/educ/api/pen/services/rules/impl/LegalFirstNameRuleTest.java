@@ -1,6 +1,7 @@
 package ca.bc.gov.educ.api.pen.services.rules.impl;
 
 import ca.bc.gov.educ.api.pen.services.model.PENNameText;
+import ca.bc.gov.educ.api.pen.services.rules.PENNameTextIndex;
 import ca.bc.gov.educ.api.pen.services.service.PENNameTextService;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -94,7 +95,7 @@ public class LegalFirstNameRuleTest {
     if ("null".equals(legalFirstName)) {
       legalFirstName = null;
     }
-    when(this.service.getPenNameTexts()).thenReturn(penNameTexts);
+    when(this.service.getPenNameTextIndex()).thenReturn(PENNameTextIndex.of(penNameTexts));
     final PenRequestStudentValidationPayload payload = PenRequestStudentValidationPayload.builder().isInteractive(false).transactionID(UUID.randomUUID().toString()).legalFirstName(legalFirstName).build();
     final var result = this.rule.validate(payload);
     assertThat(result).size().isEqualTo(expectedErrors);
@@ -104,7 +105,7 @@ public class LegalFirstNameRuleTest {
   @Parameters({"true, WARNING, JJ", "true, WARNING,",
     "false, ERROR,", "false, ERROR,XXAS", "false, ERROR,ZZAS", "true, WARNING,XXAS", "true, WARNING,ZZAS", "true, WARNING,MISHRA", "false, ERROR,MISHRA", "false, ERROR,1BANA", "true, WARNING,2BAND"})
   public void testValidate_givenLegalFirstNameBlankInDifferentMode_shouldReturnResultsWithWarningOrError(boolean isInteractive, String issueSeverityCode, String firstName) {
-    when(this.service.getPenNameTexts()).thenReturn(penNameTexts);
+    when(this.service.getPenNameTextIndex()).thenReturn(PENNameTextIndex.of(penNameTexts));
     final PenRequestStudentValidationPayload payload = PenRequestStudentValidationPayload.builder().isInteractive(isInteractive).transactionID(UUID.randomUUID().toString()).legalFirstName(firstName).build();
     if (firstName.equals("MISHRA")) {
       payload.setLegalLastName("MISHRA");
@@ -1,6 +1,7 @@
 package ca.bc.gov.educ.api.pen.services.rules.impl;
 
 import ca.bc.gov.educ.api.pen.services.model.PENNameText;
+import ca.bc.gov.educ.api.pen.services.rules.PENNameTextIndex;
 import ca.bc.gov.educ.api.pen.services.service.PENNameTextService;
 import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -88,7 +89,7 @@ public class LegalMiddleNameRuleTest {
     if ("null".equals(legalMiddleName)) {
       legalMiddleName = null;
     }
-    when(this.service.getPenNameTexts()).thenReturn(penNameTexts);
+    when(this.service.getPenNameTextIndex()).thenReturn(PENNameTextIndex.of(penNameTexts));
     final PenRequestStudentValidationPayload payload = PenRequestStudentValidationPayload.builder().isInteractive(false).transactionID(UUID.randomUUID().toString()).legalMiddleNames(legalMiddleName).build();
     final var result = this.rule.validate(payload);
     assertThat(result).size().isEqualTo(expectedErrors);
@@ -119,7 +120,7 @@ public class LegalMiddleNameRuleTest {
     if ("null".equals(legalMiddleName)) {
       legalMiddleName = null;
     }
-    when(this.service.getPenNameTexts()).thenReturn(penNameTexts);
+    when(this.service.getPenNameTextIndex()).thenReturn(PENNameTextIndex.of(penNameTexts));
     final PenRequestStudentValidationPayload payload = PenRequestStudentValidationPayload.builder().isInteractive(false).transactionID(UUID.randomUUID().toString()).legalMiddleNames(legalMiddleName).legalLastName(legalLastName).legalFirstName(legalFirstName).build();
     final var result = this.rule.validate(payload);
     assertThat(result).size().isEqualTo(expectedErrors);
@@ -0,0 +1,148 @@
+package ca.bc.gov.educ.api.pen.services.schedulers;
+
+import ca.bc.gov.educ.api.pen.services.PenServicesApiResourceApplication;
+import ca.bc.gov.educ.api.pen.services.model.Saga;
+import ca.bc.gov.educ.api.pen.services.orchestrator.base.Orchestrator;
+import ca.bc.gov.educ.api.pen.services.repository.SagaRepository;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.AopTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static ca.bc.gov.educ.api.pen.services.constants.SagaEnum.PEN_SERVICES_STUDENT_DEMERGE_COMPLETE_SAGA;
+import static ca.bc.gov.educ.api.pen.services.constants.SagaStatusEnum.COMPLETED;
+import static ca.bc.gov.educ.api.pen.services.constants.SagaStatusEnum.IN_PROGRESS;
+import static ca.bc.gov.educ.api.pen.services.constants.SagaStatusEnum.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The type Event task scheduler test.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = {PenServicesApiResourceApplication.class})
+@ActiveProfiles("test")
+public class EventTaskSchedulerTest {
+
+  @Autowired
+  SagaRepository repository;
+
+  @Autowired
+  EventTaskScheduler eventTaskScheduler;
+
+  @Autowired
+  StripedExecutor sagaEventExecutor;
+
+  @Autowired
+  LockProvider lockProvider;
+
+  /**
+   * The lock of the replay job, held by the test so a scheduled run of this context does not replay alongside it.
+   */
+  private Optional<SimpleLock> replayLock;
+
+  @Before
+  public void setUp() {
+    this.replayLock = this.lockProvider.lock(new LockConfiguration(Instant.now(), "REPLAY_UNCOMPLETED_SAGAS", Duration.ofMinutes(5), Duration.ZERO));
+    Mockito.clearInvocations(this.sagaEventExecutor);
+  }
+
+  @After
+  public void tearDown() {
+    this.replayLock.ifPresent(SimpleLock::unlock);
+    this.repository.deleteAll();
+    Mockito.reset(this.sagaEventExecutor);
+  }
+
+  @Test
+  public void testFindAndProcessUncompletedSagas_givenMoreSagasThanAPage_shouldReplayEveryStaleUncompletedSagaOnce() {
+    final var stale = LocalDateTime.now().minusMinutes(5);
+    for (int i = 0; i < 3; i++) {
+      this.repository.save(this.getSaga(STARTED.toString(), stale));
+    }
+    final var inProgress = this.repository.save(this.getSaga(IN_PROGRESS.toString(), stale));
+    inProgress.setRetryCount(2);
+    this.repository.save(inProgress);
+    final var recent = this.repository.save(this.getSaga(STARTED.toString(), LocalDateTime.now()));
+    final var completed = this.repository.save(this.getSaga(COMPLETED.toString(), stale));
+
+    // the target, so a lock held by a scheduled run of another test context does not skip the call.
+    AopTestUtils.<EventTaskScheduler>getTargetObject(this.eventTaskScheduler).findAndProcessUncompletedSagas();
+
+    final var keyCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(this.sagaEventExecutor, times(4)).execute(keyCaptor.capture(), any());
+    assertThat(keyCaptor.getAllValues()).doesNotHaveDuplicates().doesNotContain(recent.getSagaId(), completed.getSagaId());
+    assertThat(keyCaptor.getAllValues()).contains(inProgress.getSagaId());
+    for (final var saga : this.repository.findAll()) {
+      final UUID sagaId = saga.getSagaId();
+      if (sagaId.equals(inProgress.getSagaId())) {
+        assertThat(saga.getRetryCount()).isEqualTo(3);
+      } else if (sagaId.equals(recent.getSagaId()) || sagaId.equals(completed.getSagaId())) {
+        assertThat(saga.getRetryCount()).isNull();
+      } else {
+        assertThat(saga.getRetryCount()).isEqualTo(1);
+      }
+    }
+  }
+
+  @Test
+  public void testFindAndProcessUncompletedSagas_givenSagaCompletedBeforeItsReplayRuns_shouldSkipIt() throws Exception {
+    final var stale = LocalDateTime.now().minusMinutes(5);
+    final var pending = this.repository.save(this.getSaga(STARTED.toString(), stale));
+    final var completedMeanwhile = this.repository.save(this.getSaga(IN_PROGRESS.toString(), stale));
+    final var orchestrator = mock(Orchestrator.class);
+    when(orchestrator.getSagaName()).thenReturn(PEN_SERVICES_STUDENT_DEMERGE_COMPLETE_SAGA.toString());
+    final var executor = mock(StripedExecutor.class);
+    final var scheduler = new EventTaskScheduler(this.repository, List.of(orchestrator), executor);
+    scheduler.setReplayPageSize(10);
+
+    scheduler.findAndProcessUncompletedSagas();
+
+    final var taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor, times(2)).execute(any(), taskCaptor.capture());
+    completedMeanwhile.setStatus(COMPLETED.toString());
+    this.repository.save(completedMeanwhile);
+    taskCaptor.getAllValues().forEach(Runnable::run);
+
+    final var sagaCaptor = ArgumentCaptor.forClass(Saga.class);
+    verify(orchestrator).replaySaga(sagaCaptor.capture());
+    assertThat(sagaCaptor.getValue().getSagaId()).isEqualTo(pending.getSagaId());
+    assertThat(sagaCaptor.getValue().getRetryCount()).isEqualTo(1);
+  }
+
+  private Saga getSaga(final String status, final LocalDateTime createDateTime) {
+    return Saga
+        .builder()
+        .payload("{}")
+        .sagaName(PEN_SERVICES_STUDENT_DEMERGE_COMPLETE_SAGA.toString())
+        .status(status)
+        .sagaState(status)
+        .createDate(createDateTime)
+        .createUser("PEN_SERVICES_API")
+        .updateUser("PEN_SERVICES_API")
+        .updateDate(createDateTime)
+        .build();
+  }
+}
@@ -0,0 +1,72 @@
+package ca.bc.gov.educ.api.pen.services.service;
+
+import ca.bc.gov.educ.api.pen.services.model.PENNameText;
+import ca.bc.gov.educ.api.pen.services.repository.PenNameTextRepository;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationFieldCode.LEGAL_LAST;
+import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode.ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class PENNameTextServiceTest {
+
+  private static final int RECORD_NUMBER = 999999;
+
+  @Autowired
+  PenNameTextRepository penNameTextRepository;
+
+  @Autowired
+  PENNameTextService penNameTextService;
+
+  /**
+   * need to delete the record to make it working in unit tests assertion.
+   */
+  @After
+  public void after() {
+    this.penNameTextRepository.findById(RECORD_NUMBER).ifPresent(this.penNameTextRepository::delete);
+    this.penNameTextService.reloadCache();
+  }
+
+  @Test
+  public void testReloadCache_givenTableUnchanged_shouldKeepTheSnapshot() {
+    final var penNameTexts = this.penNameTextService.getPenNameTexts();
+    final var penNameTextIndex = this.penNameTextService.getPenNameTextIndex();
+    this.penNameTextService.reloadCache();
+    assertThat(this.penNameTextService.getPenNameTexts()).isSameAs(penNameTexts);
+    assertThat(this.penNameTextService.getPenNameTextIndex()).isSameAs(penNameTextIndex);
+  }
+
+  @Test
+  public void testReloadCache_givenNewRecord_shouldSwapInNewSnapshot() {
+    final var penNameTexts = this.penNameTextService.getPenNameTexts();
+    assertThat(this.penNameTextService.getPenNameTextIndex().findSeverity("WATERMARK", LEGAL_LAST, LocalDate.now())).isEmpty();
+    this.penNameTextRepository.save(this.createPenNameText());
+    this.penNameTextService.reloadCache();
+    assertThat(this.penNameTextService.getPenNameTexts()).hasSize(penNameTexts.size() + 1);
+    assertThat(this.penNameTextService.getPenNameTextIndex().findSeverity("WATERMARK", LEGAL_LAST, LocalDate.now())).contains(ERROR);
+  }
+
+  private PENNameText createPenNameText() {
+    final var penNameText = new PENNameText();
+    penNameText.setRecordNumber(RECORD_NUMBER);
+    penNameText.setInvalidText("WATERMARK");
+    penNameText.setLegalSurnameCheck("FC");
+    penNameText.setEffectiveDate(LocalDate.now().minusYears(1));
+    penNameText.setExpiryDate(LocalDate.now().plusYears(1));
+    penNameText.setCreateDate(LocalDateTime.now());
+    penNameText.setUpdateDate(LocalDateTime.now());
+    return penNameText;
+  }
+}
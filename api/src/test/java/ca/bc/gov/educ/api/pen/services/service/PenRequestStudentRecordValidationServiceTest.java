@@ -0,0 +1,128 @@
+package ca.bc.gov.educ.api.pen.services.service;
+
+import ca.bc.gov.educ.api.pen.services.rules.Rule;
+import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationIssue;
+import ca.bc.gov.educ.api.pen.services.struct.v1.PenRequestStudentValidationPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static ca.bc.gov.educ.api.pen.services.constants.PenRequestStudentValidationIssueSeverityCode.ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PenRequestStudentRecordValidationServiceTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private PenRequestStudentRecordValidationService service;
+
+  @After
+  public void after() {
+    if (this.service != null) {
+      this.service.close();
+    }
+  }
+
+  @Test
+  public void testValidateStudentRecord_givenConcurrentRuleEvaluation_shouldReturnResultsInConfiguredOrder() {
+    this.service = new PenRequestStudentRecordValidationService(List.of(new FieldRule("A"), new FieldRule("B"), new DependentRule(), new FieldRule("C")), 2, true, 4, 100, this.meterRegistry);
+    final var result = this.service.validateStudentRecord(this.createValidationPayload());
+    assertThat(result).extracting(PenRequestStudentValidationIssue::getPenRequestBatchValidationFieldCode).containsExactly("A", "B", "DEPENDENT_OF_A", "C");
+  }
+
+  @Test
+  public void testValidateStudentRecord_givenConcurrentRuleEvaluation_shouldMatchSequentialEvaluation() {
+    final List<Rule> rules = List.of(new FieldRule("A"), new DependentRule(), new FieldRule("B"));
+    this.service = new PenRequestStudentRecordValidationService(rules, 2, false, 4, 100, this.meterRegistry);
+    final var sequentialResult = this.service.validateStudentRecord(this.createValidationPayload());
+    this.service.close();
+    this.service = new PenRequestStudentRecordValidationService(rules, 2, true, 4, 100, this.meterRegistry);
+    final var concurrentResult = this.service.validateStudentRecord(this.createValidationPayload());
+    assertThat(concurrentResult).isEqualTo(sequentialResult);
+  }
+
+  @Test
+  public void testValidateStudentRecords_givenBatch_shouldReturnResultsKeyedByTransactionID() {
+    this.service = new PenRequestStudentRecordValidationService(List.of(new FieldRule("A"), new DependentRule()), 2, true, 4, 100, this.meterRegistry);
+    final var first = this.createValidationPayload();
+    final var second = this.createValidationPayload();
+    final var results = this.service.validateStudentRecords(List.of(first, second));
+    assertThat(results).containsOnlyKeys(first.getTransactionID(), second.getTransactionID());
+    assertThat(results.get(second.getTransactionID())).extracting(PenRequestStudentValidationIssue::getPenRequestBatchValidationFieldCode).containsExactly("A", "DEPENDENT_OF_A");
+  }
+
+  @Test
+  public void testConstructor_givenDependencyConfiguredAfterTheRule_shouldThrowException() {
+    final List<Rule> rules = List.of(new DependentRule(), new FieldRule("A"));
+    assertThatThrownBy(() -> new PenRequestStudentRecordValidationService(rules, 2, true, 4, 100, this.meterRegistry)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void testValidateStudentRecord_givenIssues_shouldRecordRuleTimersAndIssueCounters() {
+    this.service = new PenRequestStudentRecordValidationService(List.of(new FieldRule("A"), new ErrorRule()), 2, false, 4, 100, this.meterRegistry);
+    this.service.validateStudentRecord(this.createValidationPayload());
+    final var interactivePayload = this.createValidationPayload();
+    interactivePayload.setIsInteractive(true);
+    this.service.validateStudentRecord(interactivePayload);
+    assertThat(this.meterRegistry.get("pen.validation.rule.duration").tags("rule", "ErrorRule", "mode", "batch", "outcome", "ERROR").timer().count()).isEqualTo(1);
+    assertThat(this.meterRegistry.get("pen.validation.rule.duration").tags("rule", "ErrorRule", "mode", "interactive", "outcome", "ERROR").timer().count()).isEqualTo(1);
+    assertThat(this.meterRegistry.get("pen.validation.rule.duration").tags("rule", "FieldRule", "mode", "batch", "outcome", "NONE").timer().count()).isEqualTo(1);
+    assertThat(this.meterRegistry.get("pen.validation.rule.issues").tags("rule", "ErrorRule", "mode", "batch", "severity", "ERROR").counter().count()).isEqualTo(2);
+    assertThat(this.meterRegistry.get("pen.validation.rule.issues").tags("rule", "ErrorRule", "mode", "batch", "severity", "WARNING").counter().count()).isZero();
+    assertThat(this.meterRegistry.get("pen.validation.record.duration").tags("mode", "batch").timer().count()).isEqualTo(1);
+  }
+
+  private PenRequestStudentValidationPayload createValidationPayload() {
+    return PenRequestStudentValidationPayload.builder().transactionID(UUID.randomUUID().toString()).build();
+  }
+
+  /**
+   * Reports one issue against the given field.
+   */
+  private static class FieldRule implements Rule {
+    private final String fieldCode;
+
+    FieldRule(final String fieldCode) {
+      this.fieldCode = fieldCode;
+    }
+
+    @Override
+    public List<PenRequestStudentValidationIssue> validate(final PenRequestStudentValidationPayload validationPayload) {
+      return List.of(PenRequestStudentValidationIssue.builder().penRequestBatchValidationFieldCode(this.fieldCode).build());
+    }
+  }
+
+  /**
+   * Reports two errors.
+   */
+  private static class ErrorRule implements Rule {
+    @Override
+    public List<PenRequestStudentValidationIssue> validate(final PenRequestStudentValidationPayload validationPayload) {
+      final var issue = PenRequestStudentValidationIssue.builder().penRequestBatchValidationFieldCode("E").penRequestBatchValidationIssueSeverityCode(ERROR.toString()).build();
+      return List.of(issue, issue);
+    }
+  }
+
+  /**
+   * Reports an issue only when the issue of field A was already reported.
+   */
+  private static class DependentRule implements Rule {
+    @Override
+    public List<PenRequestStudentValidationIssue> validate(final PenRequestStudentValidationPayload validationPayload) {
+      if (validationPayload.getIssueList().stream().anyMatch(issue -> "A".equals(issue.getPenRequestBatchValidationFieldCode()))) {
+        return List.of(PenRequestStudentValidationIssue.builder().penRequestBatchValidationFieldCode("DEPENDENT_OF_A").build());
+      }
+      return List.of();
+    }
+
+    @Override
+    public Set<Class<? extends Rule>> dependsOn() {
+      return Set.of(FieldRule.class);
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package ca.bc.gov.educ.api.pen.services.service;
 
+import ca.bc.gov.educ.api.pen.services.model.PenAllocationEntity;
+import ca.bc.gov.educ.api.pen.services.repository.PenAllocationRepository;
 import ca.bc.gov.educ.api.pen.services.rest.RestUtils;
 import ca.bc.gov.educ.api.pen.services.support.TestRedisConfiguration;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -13,7 +15,16 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
@@ -32,6 +43,9 @@ public class PenServiceTest {
   @Autowired
   PenService penService;
 
+  @Autowired
+  PenAllocationRepository penAllocationRepository;
+
   String transactionID = UUID.randomUUID().toString();
 
   /**
@@ -39,8 +53,10 @@ public class PenServiceTest {
    */
   @After
   public void after() {
+    this.penService.releaseBlock();
     this.redissonClient.getBucket(transactionID).delete();
     this.redissonClient.getAtomicLong("NEXT_PEN_NUMBER").delete();
+    this.penAllocationRepository.deleteAll();
   }
 
   @Test
@@ -50,6 +66,24 @@ public class PenServiceTest {
     assertThat(penNumber).startsWith(String.valueOf(120164447));
   }
 
+  @Test
+  public void testGetNextPenNumber__whenNoPenNumberInRedis_And_LeasedPastLatestStudentPen_shouldSeedFromLastLeasedPen() throws JsonProcessingException {
+    this.penAllocationRepository.save(PenAllocationEntity.builder().allocationName("NEXT_PEN_NUMBER").highWaterMark(120164456L).updateDate(LocalDateTime.now()).build());
+    when(this.restUtils.getLatestPenNumberFromStudentAPI(transactionID)).thenReturn(120164446);
+    final var penNumber = this.penService.getNextPenNumber(transactionID);
+    assertThat(penNumber).startsWith(String.valueOf(120164457));
+    assertThat(this.penAllocationRepository.findById("NEXT_PEN_NUMBER")).get().extracting(PenAllocationEntity::getHighWaterMark).isEqualTo(120164466L);
+  }
+
+  @Test
+  public void testGetNextPenNumber__whenBlockLeased_shouldPersistItsLastPen() {
+    this.redissonClient.getAtomicLong("NEXT_PEN_NUMBER").set(120164447);
+    this.penService.getNextPenNumber(transactionID);
+    assertThat(this.penAllocationRepository.findById("NEXT_PEN_NUMBER")).get().extracting(PenAllocationEntity::getHighWaterMark).isEqualTo(120164457L);
+    this.penService.releaseBlock();
+    assertThat(this.penAllocationRepository.findById("NEXT_PEN_NUMBER")).get().extracting(PenAllocationEntity::getHighWaterMark).isEqualTo(120164457L);
+  }
+
   @Test
   public void testGetNextPenNumber__whenNewTransactionID_And_PenNumberInRedis_shouldNotCallAPI() throws JsonProcessingException {
     this.redissonClient.getAtomicLong("NEXT_PEN_NUMBER").set(120164447);
@@ -65,4 +99,65 @@ public class PenServiceTest {
     final var penNumber2 = this.penService.getNextPenNumber(transactionID);
     assertThat(penNumber2).startsWith(String.valueOf(120164447));
   }
+
+  @Test
+  public void testGetNextPenNumber__whenSeveralTransactions_shouldLeaseOneBlock() {
+    this.redissonClient.getAtomicLong("NEXT_PEN_NUMBER").set(120164447);
+    final var penNumber1 = this.penService.getNextPenNumber(UUID.randomUUID().toString());
+    final var penNumber2 = this.penService.getNextPenNumber(UUID.randomUUID().toString());
+    assertThat(penNumber1).startsWith(String.valueOf(120164448));
+    assertThat(penNumber2).startsWith(String.valueOf(120164449));
+    assertThat(this.redissonClient.getAtomicLong("NEXT_PEN_NUMBER").get()).isEqualTo(120164457);
+    this.penService.releaseBlock();
+    assertThat(this.redissonClient.getAtomicLong("NEXT_PEN_NUMBER").get()).isEqualTo(120164449);
+  }
+
+  @Test
+  public void testReleaseBlock__whenAnotherPodLeasedAfter_shouldKeepTheCounter() {
+    this.redissonClient.getAtomicLong("NEXT_PEN_NUMBER").set(120164447);
+    this.penService.getNextPenNumber(this.transactionID);
+    this.redissonClient.getAtomicLong("NEXT_PEN_NUMBER").addAndGet(10);
+    this.penService.releaseBlock();
+    assertThat(this.redissonClient.getAtomicLong("NEXT_PEN_NUMBER").get()).isEqualTo(120164467);
+  }
+
+  @Test
+  public void testGetNextPenNumber__whenConcurrentTransactions_shouldReturnUniquePens() throws Exception {
+    this.redissonClient.getAtomicLong("NEXT_PEN_NUMBER").set(120164447);
+    final var executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<String>> futures = new ArrayList<>();
+      for (int i = 0; i < 35; i++) {
+        futures.add(executor.submit(() -> this.penService.getNextPenNumber(UUID.randomUUID().toString())));
+      }
+      final Set<String> pens = new HashSet<>();
+      for (final var future : futures) {
+        pens.add(future.get(30, TimeUnit.SECONDS));
+      }
+      assertThat(pens).hasSize(35);
+      assertThat(this.redissonClient.getAtomicLong("NEXT_PEN_NUMBER").get()).isEqualTo(120164487);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testGetNextPenNumbers__whenSomeTransactionsAlreadyHavePen_shouldOnlyIssueNewPens() {
+    this.redissonClient.getAtomicLong("NEXT_PEN_NUMBER").set(120164447);
+    final var existingTransactionID = this.transactionID;
+    final var existingPen = this.penService.getNextPenNumber(existingTransactionID);
+    final var newTransactionIDs = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    try {
+      final var pens = this.penService.getNextPenNumbers(List.of(newTransactionIDs.get(0), existingTransactionID, newTransactionIDs.get(1), newTransactionIDs.get(0)));
+      assertThat(pens).containsOnlyKeys(newTransactionIDs.get(0), existingTransactionID, newTransactionIDs.get(1));
+      assertThat(pens.keySet()).containsExactly(newTransactionIDs.get(0), existingTransactionID, newTransactionIDs.get(1));
+      assertThat(pens.get(existingTransactionID)).isEqualTo(existingPen);
+      assertThat(pens.get(newTransactionIDs.get(0))).startsWith(String.valueOf(120164449));
+      assertThat(pens.get(newTransactionIDs.get(1))).startsWith(String.valueOf(120164450));
+      assertThat(this.penService.getNextPenNumbers(newTransactionIDs)).isEqualTo(Map.of(newTransactionIDs.get(0), pens.get(newTransactionIDs.get(0)), newTransactionIDs.get(1), pens.get(newTransactionIDs.get(1))));
+      assertThat(this.penService.getNextPenNumber(newTransactionIDs.get(1))).isEqualTo(pens.get(newTransactionIDs.get(1)));
+    } finally {
+      newTransactionIDs.forEach(id -> this.redissonClient.getBucket(id).delete());
+    }
+  }
 }
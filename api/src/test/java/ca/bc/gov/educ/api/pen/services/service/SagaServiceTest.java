@@ -0,0 +1,132 @@
+package ca.bc.gov.educ.api.pen.services.service;
+
+import ca.bc.gov.educ.api.pen.services.model.Saga;
+import ca.bc.gov.educ.api.pen.services.model.SagaEventStates;
+import ca.bc.gov.educ.api.pen.services.repository.SagaEventRepository;
+import ca.bc.gov.educ.api.pen.services.repository.SagaRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.util.Pair;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static ca.bc.gov.educ.api.pen.services.constants.SagaEnum.PEN_SERVICES_STUDENT_MERGE_COMPLETE_SAGA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * The type Saga service test.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class SagaServiceTest {
+
+  private static final String PAYLOAD = "{\"mergedFromPen\":\"123456789\",\"mergedToPen\":\"987654321\",\"legalFirstName\":\"Jack\",\"legalLastName\":\"Saga\",\"createUser\":\"test\",\"updateUser\":\"test\"}";
+
+  @Autowired
+  SagaRepository sagaRepository;
+
+  @Autowired
+  SagaService sagaService;
+
+  @After
+  public void after() {
+    this.sagaRepository.deleteAllInBatch();
+  }
+
+  @Test
+  public void testCreateMultipleBatchSagaRecordsInDB_givenMoreSagasThanABatch_shouldPersistEveryOne() {
+    final var sagas = this.sagaService.createMultipleBatchSagaRecordsInDB(PEN_SERVICES_STUDENT_MERGE_COMPLETE_SAGA.toString(), "test", this.payloads(120));
+    assertThat(sagas).hasSize(120).allSatisfy(saga -> assertThat(saga.getSagaId()).isNotNull());
+    assertThat(sagas.stream().map(Saga::getSagaId).distinct()).hasSize(120);
+    assertThat(this.sagaRepository.count()).isEqualTo(120);
+    assertThat(this.sagaRepository.findById(sagas.get(119).getSagaId()).orElseThrow().getPayload()).isEqualTo(PAYLOAD);
+  }
+
+  @Test
+  public void testUpdateAttachedSagaWithEvents_givenStepAlreadyRecorded_shouldSaveTheSagaOnly() {
+    final var sagaRepository = mock(SagaRepository.class);
+    final var sagaEventRepository = mock(SagaEventRepository.class);
+    final var service = new SagaService(sagaRepository, sagaEventRepository, mock(PlatformTransactionManager.class), 50);
+    final var saga = Saga.builder().sagaId(UUID.randomUUID()).payload(PAYLOAD).build();
+    final var eventStates = SagaEventStates.builder().saga(saga).sagaStepNumber(2).build();
+    doThrow(new DataIntegrityViolationException("duplicate step", new ConstraintViolationException("duplicate step", new SQLException(),
+        "API_PEN_VALIDATION." + SagaEventStates.SAGA_ID_STEP_CONSTRAINT))).when(sagaEventRepository).saveAndFlush(eventStates);
+
+    service.updateAttachedSagaWithEvents(saga, eventStates);
+
+    verify(sagaRepository, times(2)).save(saga);
+    assertThat(saga.getStepNumber()).isEqualTo(2);
+  }
+
+  @Test
+  public void testUpdateAttachedSagaWithEvents_givenOtherIntegrityViolation_shouldThrow() {
+    final var sagaRepository = mock(SagaRepository.class);
+    final var sagaEventRepository = mock(SagaEventRepository.class);
+    final var service = new SagaService(sagaRepository, sagaEventRepository, mock(PlatformTransactionManager.class), 50);
+    final var saga = Saga.builder().sagaId(UUID.randomUUID()).payload(PAYLOAD).build();
+    final var eventStates = SagaEventStates.builder().saga(saga).sagaStepNumber(2).build();
+    doThrow(new DataIntegrityViolationException("missing saga", new ConstraintViolationException("missing saga", new SQLException(), "FK_SAGA_EVENT_STATES_SAGA_ID")))
+        .when(sagaEventRepository).saveAndFlush(eventStates);
+
+    assertThatThrownBy(() -> service.updateAttachedSagaWithEvents(saga, eventStates)).isInstanceOf(DataIntegrityViolationException.class);
+    verify(sagaRepository, times(1)).save(saga);
+  }
+
+  @Test
+  public void testUpdateAttachedSagaWithEvents_givenStepAlreadyRecordedInTheCallerTransaction_shouldThrow() {
+    final var sagaRepository = mock(SagaRepository.class);
+    final var sagaEventRepository = mock(SagaEventRepository.class);
+    final var service = new SagaService(sagaRepository, sagaEventRepository, mock(PlatformTransactionManager.class), 50);
+    final var saga = Saga.builder().sagaId(UUID.randomUUID()).payload(PAYLOAD).build();
+    final var eventStates = SagaEventStates.builder().saga(saga).sagaStepNumber(2).build();
+    doThrow(new DataIntegrityViolationException("duplicate step", new ConstraintViolationException("duplicate step", new SQLException(),
+        SagaEventStates.SAGA_ID_STEP_CONSTRAINT))).when(sagaEventRepository).saveAndFlush(eventStates);
+
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    try {
+      assertThatThrownBy(() -> service.updateAttachedSagaWithEvents(saga, eventStates)).isInstanceOf(DataIntegrityViolationException.class);
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+    verify(sagaRepository, times(1)).save(saga);
+  }
+
+  @Test
+  public void testUpdateAttachedSagaWithEvents_givenReplayedStep_shouldNotWriteTheEventStateAgain() {
+    final var sagaRepository = mock(SagaRepository.class);
+    final var sagaEventRepository = mock(SagaEventRepository.class);
+    final var service = new SagaService(sagaRepository, sagaEventRepository, mock(PlatformTransactionManager.class), 50);
+    final var saga = Saga.builder().sagaId(UUID.randomUUID()).payload(PAYLOAD).stepNumber(3).replayedStepNumber(3).build();
+    final var eventStates = SagaEventStates.builder().saga(saga).sagaStepNumber(3).build();
+
+    service.updateAttachedSagaWithEvents(saga, eventStates);
+
+    verify(sagaRepository).save(saga);
+    verifyNoInteractions(sagaEventRepository);
+    assertThat(saga.getStepNumber()).isEqualTo(3);
+    assertThat(saga.getReplayedStepNumber()).isNull();
+  }
+
+  private List<Pair<UUID, String>> payloads(final int count) {
+    return IntStream.range(0, count).mapToObj(i -> Pair.of(UUID.randomUUID(), PAYLOAD)).toList();
+  }
+}
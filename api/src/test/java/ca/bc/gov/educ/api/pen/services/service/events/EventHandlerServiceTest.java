@@ -23,8 +23,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.time.LocalDateTime;
 
@@ -32,6 +35,7 @@ import static ca.bc.gov.educ.api.pen.services.constants.EventOutcome.*;
 import static ca.bc.gov.educ.api.pen.services.constants.EventType.*;
 import static ca.bc.gov.educ.api.pen.services.constants.TopicsEnum.PEN_SERVICES_API_TOPIC;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringRunner.class)
@@ -71,6 +75,54 @@ public class EventHandlerServiceTest {
     assertThat(response.getEventOutcome()).isEqualTo(NEXT_PEN_NUMBER_RETRIEVED);
   }
 
+  @Test
+  public void testHandleEvent_givenEventTypeGET_NEXT_PEN_NUMBER_BATCH__whenCallSuccess_shouldReturnPenPerTransaction() throws JsonProcessingException {
+    final var transactionIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    final var event = Event.builder().eventType(GET_NEXT_PEN_NUMBER_BATCH).replyTo(PEN_SERVICES_API_TOPIC.toString()).eventPayload(JsonUtil.getJsonStringFromObject(transactionIds)).build();
+
+    when(this.penService.getNextPenNumbers(transactionIds)).thenReturn(Map.of(transactionIds.get(0), "120164447", transactionIds.get(1), "120164454"));
+    final var rawResponse = this.eventHandlerServiceUnderTest.handleGetNextPenNumberBatchEvent(event);
+    final var response = JsonUtil.getJsonObjectFromString(Event.class, new String(rawResponse));
+    assertThat(response.getEventOutcome()).isEqualTo(NEXT_PEN_NUMBER_RETRIEVED);
+    assertThat(response.getEventPayload()).contains(transactionIds.get(0)).contains("120164447").contains("120164454");
+  }
+
+  @Test
+  public void testHandleEvent_givenEventTypeGET_NEXT_PEN_NUMBER_BATCH__whenTransactionIDIsDuplicated_shouldHaveEventOutcomeBATCH_REJECTED() throws JsonProcessingException {
+    final var transactionId = UUID.randomUUID().toString();
+    final var event = Event.builder().eventType(GET_NEXT_PEN_NUMBER_BATCH).replyTo(PEN_SERVICES_API_TOPIC.toString()).eventPayload(JsonUtil.getJsonStringFromObject(List.of(transactionId, transactionId))).build();
+
+    final var rawResponse = this.eventHandlerServiceUnderTest.handleGetNextPenNumberBatchEvent(event);
+    final var response = JsonUtil.getJsonObjectFromString(Event.class, new String(rawResponse));
+    assertThat(response.getEventOutcome()).isEqualTo(BATCH_REJECTED);
+    assertThat(response.getEventPayload()).contains(transactionId);
+    verifyNoInteractions(this.penService);
+  }
+
+  @Test
+  public void testHandleEvent_givenEventTypeGET_NEXT_PEN_NUMBER_BATCH__whenTransactionIDIsMissing_shouldHaveEventOutcomeBATCH_REJECTED() throws JsonProcessingException {
+    final var event = Event.builder().eventType(GET_NEXT_PEN_NUMBER_BATCH).replyTo(PEN_SERVICES_API_TOPIC.toString()).eventPayload("[\"" + UUID.randomUUID() + "\", null]").build();
+
+    final var rawResponse = this.eventHandlerServiceUnderTest.handleGetNextPenNumberBatchEvent(event);
+    final var response = JsonUtil.getJsonObjectFromString(Event.class, new String(rawResponse));
+    assertThat(response.getEventOutcome()).isEqualTo(BATCH_REJECTED);
+    verifyNoInteractions(this.penService);
+  }
+
+  @Test
+  public void testHandleEvent_givenEventTypeGET_NEXT_PEN_NUMBER_BATCH__whenBatchIsTooLarge_shouldHaveEventOutcomeBATCH_REJECTED() throws JsonProcessingException {
+    final List<String> transactionIds = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      transactionIds.add(UUID.randomUUID().toString());
+    }
+    final var event = Event.builder().eventType(GET_NEXT_PEN_NUMBER_BATCH).replyTo(PEN_SERVICES_API_TOPIC.toString()).eventPayload(JsonUtil.getJsonStringFromObject(transactionIds)).build();
+
+    final var rawResponse = this.eventHandlerServiceUnderTest.handleGetNextPenNumberBatchEvent(event);
+    final var response = JsonUtil.getJsonObjectFromString(Event.class, new String(rawResponse));
+    assertThat(response.getEventOutcome()).isEqualTo(BATCH_REJECTED);
+    verifyNoInteractions(this.penService);
+  }
+
   @Test(expected = RuntimeException.class)
   public void testHandleEvent_givenEventTypeGET_NEXT_PEN_NUMBER__whenCallFailed_shouldNotDispatchMessage() throws JsonProcessingException {
     final var transactionId = UUID.randomUUID().toString();
@@ -126,6 +178,75 @@ public class EventHandlerServiceTest {
     this.eventHandlerServiceUnderTest.handleValidateStudentDemogDataEvent(event);
   }
 
+  @Test
+  public void testHandleEvent_givenEventTypeVALIDATE_STUDENT_DEMOGRAPHICS_BATCH__whenValidationResultWithError_shouldHaveEventOutcomeVALIDATION_SUCCESS_WITH_ERROR() throws JsonProcessingException {
+    final var validPayload = this.createValidationPayload();
+    final var invalidPayload = this.createValidationPayload();
+    invalidPayload.setTransactionID(UUID.randomUUID().toString());
+    final var event = Event.builder().eventType(VALIDATE_STUDENT_DEMOGRAPHICS_BATCH).replyTo(PEN_SERVICES_API_TOPIC.toString()).eventPayload(JsonUtil.getJsonStringFromObject(List.of(validPayload, invalidPayload))).build();
+
+    final Map<String, List<PenRequestStudentValidationIssue>> validationResults = new LinkedHashMap<>();
+    validationResults.put(validPayload.getTransactionID(), Collections.emptyList());
+    validationResults.put(invalidPayload.getTransactionID(), List.of(PenRequestStudentValidationIssue.builder().penRequestBatchValidationIssueSeverityCode(PenRequestStudentValidationIssueSeverityCode.ERROR.toString()).build()));
+    when(this.validationService.validateStudentRecords(List.of(validPayload, invalidPayload))).thenReturn(validationResults);
+    final var rawResponse = this.eventHandlerServiceUnderTest.handleValidateStudentDemogDataBatchEvent(event);
+    assertThat(rawResponse).hasSizeGreaterThan(0);
+    final var response = JsonUtil.getJsonObjectFromString(Event.class, new String(rawResponse));
+    assertThat(response.getEventOutcome()).isEqualTo(VALIDATION_SUCCESS_WITH_ERROR);
+    assertThat(response.getEventPayload()).contains(validPayload.getTransactionID(), invalidPayload.getTransactionID());
+  }
+
+  @Test
+  public void testHandleEvent_givenEventTypeVALIDATE_STUDENT_DEMOGRAPHICS_BATCH__whenValidationResultIsEmpty_shouldHaveEventOutcomeVALIDATION_SUCCESS_NO_ERROR_WARNING() throws JsonProcessingException {
+    final var payload = this.createValidationPayload();
+    final var event = Event.builder().eventType(VALIDATE_STUDENT_DEMOGRAPHICS_BATCH).replyTo(PEN_SERVICES_API_TOPIC.toString()).eventPayload(JsonUtil.getJsonStringFromObject(List.of(payload))).build();
+
+    when(this.validationService.validateStudentRecords(List.of(payload))).thenReturn(Map.of(payload.getTransactionID(), Collections.emptyList()));
+    final var rawResponse = this.eventHandlerServiceUnderTest.handleValidateStudentDemogDataBatchEvent(event);
+    final var response = JsonUtil.getJsonObjectFromString(Event.class, new String(rawResponse));
+    assertThat(response.getEventOutcome()).isEqualTo(VALIDATION_SUCCESS_NO_ERROR_WARNING);
+  }
+
+  @Test
+  public void testHandleEvent_givenEventTypeVALIDATE_STUDENT_DEMOGRAPHICS_BATCH__whenTransactionIDIsDuplicated_shouldHaveEventOutcomeBATCH_REJECTED() throws JsonProcessingException {
+    final var payload = this.createValidationPayload();
+    final var event = Event.builder().eventType(VALIDATE_STUDENT_DEMOGRAPHICS_BATCH).replyTo(PEN_SERVICES_API_TOPIC.toString()).eventPayload(JsonUtil.getJsonStringFromObject(List.of(payload, payload))).build();
+
+    final var rawResponse = this.eventHandlerServiceUnderTest.handleValidateStudentDemogDataBatchEvent(event);
+    final var response = JsonUtil.getJsonObjectFromString(Event.class, new String(rawResponse));
+    assertThat(response.getEventOutcome()).isEqualTo(BATCH_REJECTED);
+    assertThat(response.getEventPayload()).contains(payload.getTransactionID());
+    verifyNoInteractions(this.validationService);
+  }
+
+  @Test
+  public void testHandleEvent_givenEventTypeVALIDATE_STUDENT_DEMOGRAPHICS_BATCH__whenTransactionIDIsMissing_shouldHaveEventOutcomeBATCH_REJECTED() throws JsonProcessingException {
+    final var payload = this.createValidationPayload();
+    payload.setTransactionID(null);
+    final var event = Event.builder().eventType(VALIDATE_STUDENT_DEMOGRAPHICS_BATCH).replyTo(PEN_SERVICES_API_TOPIC.toString()).eventPayload(JsonUtil.getJsonStringFromObject(List.of(payload))).build();
+
+    final var rawResponse = this.eventHandlerServiceUnderTest.handleValidateStudentDemogDataBatchEvent(event);
+    final var response = JsonUtil.getJsonObjectFromString(Event.class, new String(rawResponse));
+    assertThat(response.getEventOutcome()).isEqualTo(BATCH_REJECTED);
+    verifyNoInteractions(this.validationService);
+  }
+
+  @Test
+  public void testHandleEvent_givenEventTypeVALIDATE_STUDENT_DEMOGRAPHICS_BATCH__whenBatchIsTooLarge_shouldHaveEventOutcomeBATCH_REJECTED() throws JsonProcessingException {
+    final List<PenRequestStudentValidationPayload> payloads = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      final var payload = this.createValidationPayload();
+      payload.setTransactionID(UUID.randomUUID().toString());
+      payloads.add(payload);
+    }
+    final var event = Event.builder().eventType(VALIDATE_STUDENT_DEMOGRAPHICS_BATCH).replyTo(PEN_SERVICES_API_TOPIC.toString()).eventPayload(JsonUtil.getJsonStringFromObject(payloads)).build();
+
+    final var rawResponse = this.eventHandlerServiceUnderTest.handleValidateStudentDemogDataBatchEvent(event);
+    final var response = JsonUtil.getJsonObjectFromString(Event.class, new String(rawResponse));
+    assertThat(response.getEventOutcome()).isEqualTo(BATCH_REJECTED);
+    verifyNoInteractions(this.validationService);
+  }
+
   @Test
   public void testHandleCreateMergeEvent_givenStudentMergePayload_whenSuccessfullyProcessed_shouldHaveEventOutcomeMERGE_CREATED() throws JsonProcessingException {
     final var payload = this.createStudentMergePayload();
@@ -6,6 +6,7 @@ import ca.bc.gov.educ.api.pen.services.messaging.NatsConnection;
 import ca.bc.gov.educ.api.pen.services.messaging.jetstream.Publisher;
 import ca.bc.gov.educ.api.pen.services.messaging.jetstream.Subscriber;
 import ca.bc.gov.educ.api.pen.services.rest.RestUtils;
+import ca.bc.gov.educ.api.pen.services.util.StripedExecutor;
 import io.nats.client.Connection;
 import org.mockito.Mockito;
 import org.redisson.api.RedissonClient;
@@ -83,4 +84,10 @@ public class MockConfiguration {
     return Mockito.mock(Subscriber.class);
   }
 
+  @Bean
+  @Primary
+  public StripedExecutor sagaEventExecutor() {
+    return Mockito.mock(StripedExecutor.class);
+  }
+
 }
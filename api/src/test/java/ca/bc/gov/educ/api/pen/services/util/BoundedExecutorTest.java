@@ -0,0 +1,137 @@
+package ca.bc.gov.educ.api.pen.services.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The type Bounded executor test.
+ */
+public class BoundedExecutorTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private BoundedExecutor executor;
+
+  @Before
+  public void setUp() {
+    this.meterRegistry = new SimpleMeterRegistry();
+    this.executor = new BoundedExecutor("test-executor", 1, 1, this.meterRegistry);
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    this.executor.shutdown();
+    this.executor.awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testExecute_givenQueueFull_shouldRunOnCallerThread() throws Exception {
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    this.executor.execute(() -> {
+      started.countDown();
+      await(release);
+    });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    final var queued = new CountDownLatch(1);
+    this.executor.execute(queued::countDown);
+    assertThat(this.meterRegistry.get("executor.queued").tag("name", "test-executor").gauge().value()).isEqualTo(1);
+    assertThat(this.meterRegistry.get("executor.queue.remaining").gauge().value()).isZero();
+    assertThat(this.meterRegistry.get("executor.active").gauge().value()).isEqualTo(1);
+
+    final var ranOn = new AtomicReference<Thread>();
+    this.executor.execute(() -> ranOn.set(Thread.currentThread()));
+    assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+    assertThat(this.meterRegistry.get("executor.caller.runs").counter().count()).isEqualTo(1);
+
+    release.countDown();
+    assertThat(queued.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(this.meterRegistry.get("executor.queue.wait").timer().count()).isEqualTo(3);
+  }
+
+  @Test
+  public void testExecute_givenElasticPoolAndBusyThreads_shouldGrowBeforeQueueing() throws Exception {
+    final var elastic = new BoundedExecutor("elastic-executor", 1, 2, 1, this.meterRegistry);
+    final var started = new CountDownLatch(2);
+    final var release = new CountDownLatch(1);
+    try {
+      for (int i = 0; i < 2; i++) {
+        elastic.execute(() -> {
+          started.countDown();
+          await(release);
+        });
+      }
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(this.meterRegistry.get("executor.pool.size").tag("name", "elastic-executor").gauge().value()).isEqualTo(2);
+      assertThat(this.meterRegistry.get("executor.queued").tag("name", "elastic-executor").gauge().value()).isZero();
+    } finally {
+      release.countDown();
+      elastic.shutdown();
+      elastic.awaitTermination(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  public void testExecute_givenBlockOverflowAndQueueFull_shouldWaitForAFreeSlotWithoutRunningOnCaller() throws Exception {
+    final var blocking = new BoundedExecutor("blocking-executor", 1, 1, 1, BoundedExecutor.Overflow.BLOCK, this.meterRegistry);
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    try {
+      blocking.execute(() -> {
+        started.countDown();
+        await(release);
+      });
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      blocking.execute(() -> {
+      });
+      final var ranOn = new AtomicReference<Thread>();
+      final var ran = new CountDownLatch(1);
+      final var submitter = new Thread(() -> blocking.execute(() -> {
+        ranOn.set(Thread.currentThread());
+        ran.countDown();
+      }));
+      submitter.start();
+      waitUntil(() -> this.meterRegistry.get("executor.blocked").tag("name", "blocking-executor").counter().count() == 1);
+      assertThat(submitter.isAlive()).isTrue();
+      release.countDown();
+      submitter.join(5000);
+      assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(ranOn.get()).isNotSameAs(submitter).extracting(Thread::getName).asString().startsWith("blocking-executor-");
+      assertThat(this.meterRegistry.get("executor.caller.runs").tag("name", "blocking-executor").counter().count()).isZero();
+    } finally {
+      release.countDown();
+      blocking.shutdown();
+      blocking.awaitTermination(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  public void testConstructor_givenNoQueue_shouldThrow() {
+    assertThatThrownBy(() -> new BoundedExecutor("no-queue", 1, 0, this.meterRegistry)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(condition.getAsBoolean()).isTrue();
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package ca.bc.gov.educ.api.pen.services.util;
+
+import ca.bc.gov.educ.api.pen.services.constants.EventType;
+import ca.bc.gov.educ.api.pen.services.struct.v1.Event;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The type Json util test.
+ */
+public class JsonUtilTest {
+
+  @Test
+  public void testGetJsonObjectFromByteArray_givenEventBytes_shouldRoundTrip() throws Exception {
+    final var sagaId = UUID.randomUUID();
+    final var event = Event.builder().sagaId(sagaId).eventType(EventType.GET_NEXT_PEN_NUMBER).eventPayload("payload").build();
+    final var decoded = JsonUtil.getJsonObjectFromByteArray(Event.class, JsonUtil.getJsonBytesFromObject(event));
+    assertThat(decoded.getSagaId()).isEqualTo(sagaId);
+    assertThat(decoded.getEventType()).isEqualTo(EventType.GET_NEXT_PEN_NUMBER);
+    assertThat(JsonUtil.getJsonObjectFromString(Event.class, new String(JsonUtil.getJsonBytesFromObject(event), StandardCharsets.UTF_8))).isEqualTo(decoded);
+  }
+
+  @Test
+  public void testGetJsonListFromString_givenArray_shouldReadEachElement() throws Exception {
+    assertThat(JsonUtil.getJsonListFromString(String.class, "[\"a\",\"b\"]")).containsExactly("a", "b");
+    final List<Event> events = JsonUtil.getJsonListFromString(Event.class, "[{\"eventPayload\":\"one\"},{\"eventPayload\":\"two\"}]");
+    assertThat(events).extracting(Event::getEventPayload).containsExactly("one", "two");
+  }
+
+  @Test
+  public void testWriters_givenDates_shouldKeepTheirFormats() throws Exception {
+    final var payload = Map.of("effectiveDate", LocalDate.of(2020, 1, 2));
+    assertThat(JsonUtil.getJsonStringFromObject(payload)).isEqualTo("{\"effectiveDate\":\"2020-01-02\"}");
+    assertThat(new String(JsonUtil.getJsonBytesFromObject(payload), StandardCharsets.UTF_8)).isEqualTo("{\"effectiveDate\":[2020,1,2]}");
+  }
+}
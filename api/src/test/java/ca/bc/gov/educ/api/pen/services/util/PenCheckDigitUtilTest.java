@@ -0,0 +1,96 @@
+package ca.bc.gov.educ.api.pen.services.util;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The type Pen check digit util test.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class PenCheckDigitUtilTest {
+
+  @Test
+  @Parameters({
+      "74628265, 6",
+      "12016444, 7",
+      "10000000, 9",
+      "0, 0",
+      "99999999, 8"
+  })
+  public void testCalculateCheckDigit_givenDigits_shouldReturnCheckDigit(final String penWithoutCheckDigit, final int expectedCheckDigit) {
+    assertThat(PenCheckDigitUtil.calculateCheckDigit(penWithoutCheckDigit)).isEqualTo(expectedCheckDigit);
+    assertThat(PenCheckDigitUtil.calculateCheckDigit(Long.parseLong(penWithoutCheckDigit))).isEqualTo(expectedCheckDigit);
+  }
+
+  @Test
+  public void testCalculateCheckDigit_givenRandomNumbers_shouldMatchTheDigitStringCalculation() {
+    final Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      final long penWithoutCheckDigit = 10_000_000 + random.nextInt(90_000_000);
+      final int expected = referenceCheckDigit(String.valueOf(penWithoutCheckDigit));
+      assertThat(PenCheckDigitUtil.calculateCheckDigit(penWithoutCheckDigit)).isEqualTo(expected);
+      assertThat(PenCheckDigitUtil.isValidPen(penWithoutCheckDigit + "" + expected)).isTrue();
+      assertThat(PenCheckDigitUtil.isValidPen(penWithoutCheckDigit + "" + (expected + 1) % 10)).isFalse();
+    }
+  }
+
+  @Test
+  public void testCalculateCheckDigit_givenNonDigits_shouldThrow() {
+    assertThatThrownBy(() -> PenCheckDigitUtil.calculateCheckDigit("1234a678")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PenCheckDigitUtil.calculateCheckDigit("")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PenCheckDigitUtil.calculateCheckDigit(-1L)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @Parameters({
+      "746282656, true",
+      "120164447, true",
+      "123456789, false",
+      "12345678, false",
+      "1234567890, false",
+      "-12345678, false",
+      "1234.5678, false",
+      "12345678a, false"
+  })
+  public void testIsValidPen_givenValue_shouldValidate(final String pen, final boolean expected) {
+    assertThat(PenCheckDigitUtil.isValidPen(pen)).isEqualTo(expected);
+  }
+
+  @Test
+  public void testAreValidPens_givenArray_shouldValidateEachIndex() {
+    final String[] pens = {"746282656", null, "123456789", "120164447"};
+    assertThat(PenCheckDigitUtil.areValidPens(pens)).containsExactly(true, false, false, true);
+    final boolean[] results = new boolean[5];
+    assertThat(PenCheckDigitUtil.areValidPens(pens, results)).isEqualTo(2);
+    assertThat(results).startsWith(true, false, false, true);
+    assertThatThrownBy(() -> PenCheckDigitUtil.areValidPens(pens, new boolean[3])).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /**
+   * The check digit as spelled out in the PEN specification, joining the even digits and doubling the number.
+   */
+  private static int referenceCheckDigit(final String penWithoutCheckDigit) {
+    int sumOdds = 0;
+    final StringBuilder evens = new StringBuilder();
+    for (int i = 0; i < penWithoutCheckDigit.length(); i++) {
+      if (i % 2 == 0) {
+        sumOdds += penWithoutCheckDigit.charAt(i) - '0';
+      } else {
+        evens.append(penWithoutCheckDigit.charAt(i));
+      }
+    }
+    int sumEvens = 0;
+    for (final char digit : String.valueOf(Long.parseLong(evens.toString()) * 2).toCharArray()) {
+      sumEvens += digit - '0';
+    }
+    final int finalSum = sumOdds + sumEvens;
+    return finalSum % 10 == 0 ? 0 : 10 - finalSum % 10;
+  }
+}
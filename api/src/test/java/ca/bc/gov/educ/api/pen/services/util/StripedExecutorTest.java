@@ -0,0 +1,144 @@
+package ca.bc.gov.educ.api.pen.services.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The type Striped executor test.
+ */
+public class StripedExecutorTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private StripedExecutor executor;
+
+  @Before
+  public void setUp() {
+    this.meterRegistry = new SimpleMeterRegistry();
+    this.executor = new StripedExecutor("test-striped", 4, 2, this.meterRegistry);
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    this.executor.shutdown();
+    this.executor.awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testExecute_givenSameKey_shouldRunInOrderOneAtATime() throws Exception {
+    final var key = UUID.randomUUID();
+    final List<Integer> order = new CopyOnWriteArrayList<>();
+    final var running = new AtomicInteger();
+    final var maxRunning = new AtomicInteger();
+    final var done = new CountDownLatch(50);
+    for (int i = 0; i < 50; i++) {
+      final int index = i;
+      this.executor.execute(key, () -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        order.add(index);
+        running.decrementAndGet();
+        done.countDown();
+      });
+    }
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(maxRunning.get()).isEqualTo(1);
+    assertThat(order).isSorted().hasSize(50);
+  }
+
+  @Test
+  public void testExecute_givenKeyBlocked_shouldRunOtherStripes() throws Exception {
+    final var release = new CountDownLatch(1);
+    final var otherDone = new CountDownLatch(1);
+    this.executor.execute(0, () -> await(release));
+    this.executor.execute(1, otherDone::countDown);
+    try {
+      assertThat(otherDone.await(5, TimeUnit.SECONDS)).isTrue();
+      final var active = this.meterRegistry.get("executor.active").tag("name", "test-striped").gauge();
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (active.value() > 1 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(active.value()).isEqualTo(1);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void testExecute_givenStripeFull_shouldWaitForAFreeSlot() throws Exception {
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    final List<Integer> order = new CopyOnWriteArrayList<>();
+    this.executor.execute(0, () -> {
+      started.countDown();
+      await(release);
+    });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    this.executor.execute(0, () -> order.add(1));
+    this.executor.execute(0, () -> order.add(2));
+    assertThat(this.meterRegistry.get("executor.queued").gauge().value()).isEqualTo(2);
+    assertThat(this.meterRegistry.get("executor.queue.remaining").gauge().value()).isEqualTo(3 * 2);
+    assertThat(this.meterRegistry.get("executor.pool.size").gauge().value()).isEqualTo(1);
+    final var submitter = new Thread(() -> this.executor.execute(0, () -> order.add(3)));
+    submitter.start();
+    submitter.join(200);
+    assertThat(submitter.isAlive()).isTrue();
+    release.countDown();
+    submitter.join(5000);
+    this.executor.shutdown();
+    assertThat(this.executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(order).containsExactly(1, 2, 3);
+    assertThat(this.meterRegistry.get("executor.blocked").counter().count()).isEqualTo(1);
+    assertThat(this.meterRegistry.get("executor.queue.wait").timer().count()).isEqualTo(4);
+  }
+
+  @Test
+  public void testExecute_givenKeepAlive_shouldRetireIdleStripeThreads() throws Exception {
+    final var meters = new SimpleMeterRegistry();
+    final var elastic = new StripedExecutor("test-elastic", 8, 2, Duration.ofMillis(50), meters);
+    try {
+      final var done = new CountDownLatch(8);
+      for (int i = 0; i < 8; i++) {
+        elastic.execute(i, done::countDown);
+      }
+      assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+      final var poolSize = meters.get("executor.pool.size").gauge();
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (poolSize.value() > 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(poolSize.value()).isZero();
+      final var again = new CountDownLatch(1);
+      elastic.execute(0, again::countDown);
+      assertThat(again.await(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      elastic.shutdown();
+      elastic.awaitTermination(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  public void testConstructor_givenNoStripe_shouldThrow() {
+    assertThatThrownBy(() -> new StripedExecutor("no-stripe", 0, 1, this.meterRegistry)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -195,7 +195,7 @@ PARSER_CONFIG="
 "
 
 echo Creating config map "$APP_NAME"-config-map
-oc create -n "$PEN_NAMESPACE"-"$envValue" configmap "$APP_NAME"-config-map --from-literal=TZ=$TZVALUE --from-literal=JDBC_URL="$DB_JDBC_CONNECT_STRING" --from-literal=ORACLE_USERNAME="$DB_USER" --from-literal=ORACLE_PASSWORD="$DB_PWD" --from-literal=SPRING_SECURITY_LOG_LEVEL=INFO --from-literal=SPRING_WEB_LOG_LEVEL=INFO --from-literal=APP_LOG_LEVEL=INFO --from-literal=SPRING_BOOT_AUTOCONFIG_LOG_LEVEL=INFO --from-literal=SPRING_SHOW_REQUEST_DETAILS=false --from-literal=SPRING_JPA_SHOW_SQL="false" --from-literal=CLIENT_ID="pen-validation-api-service" --from-literal=CLIENT_SECRET="$PV_APIServiceClientSecret" --from-literal=STUDENT_API_URL="http://student-api-master.$COMMON_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/student" --from-literal=TOKEN_URL="https://$SOAM_KC/auth/realms/$SOAM_KC_REALM_ID/protocol/openid-connect/token" --from-literal=NATS_URL="$NATS_URL" --from-literal=NATS_CLUSTER="$NATS_CLUSTER" --from-literal=REDIS_URL="redis.$PEN_NAMESPACE-$envValue.svc.cluster.local:6379" --from-literal=INSTITUTE_API_URL="http://institute-api-master.$COMMON_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/institute" --from-literal=TOKEN_ISSUER_URL="https://$SOAM_KC/auth/realms/$SOAM_KC_REALM_ID" --from-literal=NATS_MAX_RECONNECT=60 --from-literal=PURGE_RECORDS_SAGA_AFTER_DAYS=365 --from-literal=SCHEDULED_JOBS_PURGE_OLD_SAGA_RECORDS_CRON="@midnight" --dry-run -o yaml | oc apply -f -
+oc create -n "$PEN_NAMESPACE"-"$envValue" configmap "$APP_NAME"-config-map --from-literal=TZ=$TZVALUE --from-literal=JDBC_URL="$DB_JDBC_CONNECT_STRING" --from-literal=ORACLE_USERNAME="$DB_USER" --from-literal=ORACLE_PASSWORD="$DB_PWD" --from-literal=SPRING_SECURITY_LOG_LEVEL=INFO --from-literal=SPRING_WEB_LOG_LEVEL=INFO --from-literal=APP_LOG_LEVEL=INFO --from-literal=SPRING_BOOT_AUTOCONFIG_LOG_LEVEL=INFO --from-literal=SPRING_SHOW_REQUEST_DETAILS=false --from-literal=SPRING_JPA_SHOW_SQL="false" --from-literal=CLIENT_ID="pen-validation-api-service" --from-literal=CLIENT_SECRET="$PV_APIServiceClientSecret" --from-literal=STUDENT_API_URL="http://student-api-master.$COMMON_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/student" --from-literal=TOKEN_URL="https://$SOAM_KC/auth/realms/$SOAM_KC_REALM_ID/protocol/openid-connect/token" --from-literal=NATS_URL="$NATS_URL" --from-literal=NATS_CLUSTER="$NATS_CLUSTER" --from-literal=REDIS_URL="redis.$PEN_NAMESPACE-$envValue.svc.cluster.local:6379" --from-literal=INSTITUTE_API_URL="http://institute-api-master.$COMMON_NAMESPACE-$envValue.svc.cluster.local:8080/api/v1/institute" --from-literal=TOKEN_ISSUER_URL="https://$SOAM_KC/auth/realms/$SOAM_KC_REALM_ID" --from-literal=NATS_MAX_RECONNECT=60 --from-literal=PURGE_RECORDS_SAGA_AFTER_DAYS=365 --from-literal=SCHEDULED_JOBS_PURGE_OLD_SAGA_RECORDS_CRON="@midnight" --from-literal=VALIDATION_BATCH_THREADS=4 --from-literal=VALIDATION_BATCH_MAX_SIZE=1000 --from-literal=VALIDATION_RULES_CONCURRENT=false --from-literal=VALIDATION_RULES_THREADS=8 --from-literal=VALIDATION_RULES_QUEUE_SIZE=200 --from-literal=PEN_ALLOCATION_BLOCK_SIZE=10 --from-literal=PEN_NUMBER_BATCH_MAX_SIZE=1000 --from-literal=EXECUTOR_THREAD_MODE=FIXED --from-literal=EXECUTOR_ELASTIC_MAX_THREADS=64 --from-literal=NATS_API_TOPIC_DISPATCHERS=2 --from-literal=NATS_SAGA_TOPIC_DISPATCHERS=1 --from-literal=NATS_LANES_VALIDATION_THREADS=4 --from-literal=NATS_LANES_PEN_ALLOCATION_THREADS=2 --from-literal=NATS_LANES_MERGE_THREADS=2 --from-literal=NATS_LANES_OTHER_THREADS=2 --from-literal=NATS_LANES_QUEUE_SIZE=500 --from-literal=NATS_REPLY_THREADS=4 --from-literal=NATS_REPLY_QUEUE_SIZE=100 --from-literal=SAGA_EXECUTOR_STRIPES=16 --from-literal=SAGA_EXECUTOR_STRIPE_QUEUE_SIZE=100 --from-literal=SCHEDULED_JOBS_REPLAY_UNCOMPLETED_SAGAS_PAGE_SIZE=100 --from-literal=SAGA_PAYLOAD_CODEC=NONE --from-literal=HIBERNATE_JDBC_BATCH_SIZE=50 --dry-run -o yaml | oc apply -f -
 
 echo
 echo Setting environment variables for $APP_NAME-$SOAM_KC_REALM_ID application